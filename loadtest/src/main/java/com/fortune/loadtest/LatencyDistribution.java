@@ -0,0 +1,51 @@
+package com.fortune.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * 스텁 서버 응답 지연 분포
+ * fixed:800ms, uniform:500ms..3s, lognormal:median=2s,p99=8s
+ */
+@FunctionalInterface
+interface LatencyDistribution {
+
+    /** 표준정규분포 99번째 백분위수 */
+    double Z_99 = 2.3263;
+
+    long sampleNanos(RandomGenerator random);
+
+    static LatencyDistribution parse(String spec) {
+        int separator = spec.indexOf(':');
+        String kind = separator < 0 ? spec : spec.substring(0, separator);
+        String body = separator < 0 ? "" : spec.substring(separator + 1);
+
+        switch (kind) {
+            case "fixed" -> {
+                long nanos = CommandLineOptions.parseDuration(body).toNanos();
+                return random -> nanos;
+            }
+            case "uniform" -> {
+                String[] range = body.split("\\.\\.");
+                long min = CommandLineOptions.parseDuration(range[0]).toNanos();
+                long max = CommandLineOptions.parseDuration(range[1]).toNanos();
+                return random -> min + (long) (random.nextDouble() * (max - min));
+            }
+            case "lognormal" -> {
+                Map<String, Duration> params = new HashMap<>();
+                for (String pair : body.split(",")) {
+                    String[] keyValue = pair.split("=");
+                    params.put(keyValue[0].trim(), CommandLineOptions.parseDuration(keyValue[1]));
+                }
+                double median = params.get("median").toNanos();
+                double p99 = params.get("p99").toNanos();
+                double mu = Math.log(median);
+                double sigma = Math.log(p99 / median) / Z_99;
+                return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 지연 분포입니다: " + spec);
+        }
+    }
+}
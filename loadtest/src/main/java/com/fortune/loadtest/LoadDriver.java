@@ -0,0 +1,178 @@
+package com.fortune.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * /fortune/analyze 오픈 모델 부하 발생기
+ * 응답 여부와 관계없이 지정한 도착률(--rate)로 요청을 보내며,
+ * 지연 시간은 예정된 발송 시각부터 측정하여 coordinated omission 없이 HdrHistogram에 기록
+ *
+ * --target       대상 URL (기본값 http://localhost:8080/api/fortune/analyze)
+ * --rate         초당 요청 수
+ * --duration     측정 시간, --warmup 워밍업 시간 (워밍업 구간은 기록하지 않음)
+ * --arrival      poisson | uniform (요청 간격 분포)
+ * --profiles     서로 다른 생년월일/생시 프로필 수 (캐시 적중률 조절)
+ * --type         SAJU | DAILY | MIXED
+ * --output       백분위수 분포(.hgrm) 저장 경로
+ */
+public class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final LocalDate PROFILE_BASE_DATE = LocalDate.of(1950, 1, 1);
+    private static final int PROFILE_DATE_RANGE_DAYS = 365 * 55;
+
+    private final URI target;
+    private final double rate;
+    private final Duration duration;
+    private final Duration warmup;
+    private final boolean poisson;
+    private final int profiles;
+    private final String fortuneType;
+    private final Duration timeout;
+    private final Path output;
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    LoadDriver(CommandLineOptions options) {
+        this.target = URI.create(options.getString("target", "http://localhost:8080/api/fortune/analyze"));
+        this.rate = options.getDouble("rate", 20);
+        this.duration = options.getDuration("duration", Duration.ofSeconds(60));
+        this.warmup = options.getDuration("warmup", Duration.ofSeconds(10));
+        this.poisson = !"uniform".equals(options.getString("arrival", "poisson"));
+        this.profiles = options.getInt("profiles", 1000);
+        this.fortuneType = options.getString("type", "SAJU");
+        this.timeout = options.getDuration("timeout", Duration.ofMinutes(2));
+        this.output = Path.of(options.getString("output", "build/loadtest/latency.hgrm"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(new CommandLineOptions(args)).run();
+    }
+
+    void run() throws InterruptedException, IOException {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.out.printf("부하 테스트 시작 - %s, %.1f req/s (%s), 워밍업 %ds, 측정 %ds, 프로필 %d개%n",
+                target, rate, poisson ? "poisson" : "uniform", warmup.toSeconds(), duration.toSeconds(), profiles);
+
+        SplittableRandom random = new SplittableRandom(42);
+        long meanIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + warmup.toNanos();
+        long endNanos = measureStartNanos + duration.toNanos();
+
+        long intendedNanos = startNanos;
+        long sent = 0;
+        while (intendedNanos < endNanos) {
+            long waitNanos = intendedNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+
+            long scheduledNanos = intendedNanos;
+            boolean measured = scheduledNanos >= measureStartNanos;
+            HttpRequest request = buildRequest(sent++, random);
+            executor.execute(() -> send(client, request, scheduledNanos, measured));
+
+            intendedNanos += poisson
+                    ? (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos)
+                    : meanIntervalNanos;
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(timeout.toSeconds() + 5, TimeUnit.SECONDS)) {
+            System.out.println("응답 대기 시간 초과로 남은 요청을 중단합니다.");
+            executor.shutdownNow();
+        }
+
+        report(recorder.getIntervalHistogram(), duration);
+    }
+
+    private void send(HttpClient client, HttpRequest request, long scheduledNanos, boolean measured) {
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (!measured) {
+            return;
+        }
+        recorder.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS,
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledNanos)));
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+        completed.increment();
+        if (status < 200 || status >= 300) {
+            failures.increment();
+        }
+    }
+
+    /**
+     * 프로필 번호로 결정되는 요청 본문 (같은 번호는 항상 같은 생년월일/생시/성별)
+     */
+    private HttpRequest buildRequest(long sequence, SplittableRandom random) {
+        int profile = random.nextInt(profiles);
+        LocalDate birthDate = PROFILE_BASE_DATE.plusDays((profile * 7919L) % PROFILE_DATE_RANGE_DAYS);
+        String birthTime = String.format("%02d:%02d", profile % 24, (profile * 7) % 60);
+        String gender = profile % 2 == 0 ? "MALE" : "FEMALE";
+        String type = "MIXED".equals(fortuneType) ? (sequence % 2 == 0 ? "SAJU" : "DAILY") : fortuneType;
+
+        String body = String.format(
+                "{\"birthDate\":\"%s\",\"birthTime\":\"%s\",\"gender\":\"%s\",\"fortuneType\":\"%s\"}",
+                birthDate, birthTime, gender, type);
+        return HttpRequest.newBuilder(target)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void report(Histogram histogram, Duration measured) throws IOException {
+        PrintStream out = System.out;
+        out.printf("%n완료 %d건 (실패 %d건), 처리량 %.1f req/s%n",
+                completed.sum(), failures.sum(), completed.sum() / (double) measured.toSeconds());
+        out.printf("지연 시간(ms) - p50 %.1f, p90 %.1f, p99 %.1f, p99.9 %.1f, max %.1f%n",
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+        out.println("응답 코드 - " + statusCounts);
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (PrintStream file = new PrintStream(Files.newOutputStream(output))) {
+            histogram.outputPercentileDistribution(file, 1000.0);
+        }
+        out.println("백분위수 분포 저장 (단위 ms): " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,264 @@
+package com.fortune.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OpenAI Chat Completions API 호환 스텁 서버
+ * 서버의 spring.ai.openai.base-url을 이 서버로 지정하면 실제 API 호출 없이 전체 경로를 부하 테스트할 수 있음
+ *
+ * - 응답 지연 분포 (--latency), 스트리밍 응답 (stream=true 요청 시 SSE 청크)
+ * - 429(Retry-After 포함) 및 5xx 오류 주입 (--rate-limit-ratio, --server-error-ratio)
+ * - 토큰 사용량(usage) 보고 및 GET /stats 누적 통계
+ */
+public class OpenAIStubServer {
+
+    private static final String COMPLETIONS_PATH = "/v1/chat/completions";
+    private static final String STATS_PATH = "/stats";
+    private static final String SAMPLE_PARAGRAPH =
+            "타고난 기운이 조화를 이루어 꾸준히 노력하면 안정적인 성취를 얻을 수 있습니다. "
+            + "부족한 오행을 보완하는 생활 습관을 들이면 건강과 재물 흐름이 한층 좋아집니다. ";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int port;
+    private final LatencyDistribution latency;
+    private final double rateLimitRatio;
+    private final double serverErrorRatio;
+    private final int retryAfterSeconds;
+    private final int streamChunks;
+    private final String responseText;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder promptTokens = new LongAdder();
+    private final LongAdder completionTokens = new LongAdder();
+    private final AtomicLong inFlight = new AtomicLong();
+
+    private HttpServer server;
+
+    OpenAIStubServer(CommandLineOptions options) {
+        this.port = options.getInt("port", 8089);
+        this.latency = LatencyDistribution.parse(options.getString("latency", "lognormal:median=2s,p99=8s"));
+        this.rateLimitRatio = options.getDouble("rate-limit-ratio", 0.0);
+        this.serverErrorRatio = options.getDouble("server-error-ratio", 0.0);
+        this.retryAfterSeconds = options.getInt("retry-after", 1);
+        this.streamChunks = options.getInt("stream-chunks", 50);
+        int responseChars = options.getInt("response-chars", 2000);
+        this.responseText = SAMPLE_PARAGRAPH.repeat(responseChars / SAMPLE_PARAGRAPH.length() + 1).substring(0, responseChars);
+    }
+
+    public static void main(String[] args) throws IOException {
+        OpenAIStubServer stubServer = new OpenAIStubServer(new CommandLineOptions(args));
+        stubServer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stubServer::stop));
+    }
+
+    void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext(COMPLETIONS_PATH, this::handleCompletion);
+        server.createContext(STATS_PATH, this::handleStats);
+        server.start();
+        System.out.printf("OpenAI 스텁 서버 시작 - http://localhost:%d%s (429 비율 %.3f, 5xx 비율 %.3f)%n",
+                port, COMPLETIONS_PATH, rateLimitRatio, serverErrorRatio);
+    }
+
+    void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private void handleCompletion(HttpExchange exchange) throws IOException {
+        requests.increment();
+        inFlight.incrementAndGet();
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendJson(exchange, 405, error("method_not_allowed", "Only POST is supported"));
+                return;
+            }
+
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            long delayNanos = latency.sampleNanos(ThreadLocalRandom.current());
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < rateLimitRatio) {
+                rateLimited.increment();
+                sleep(delayNanos / 10);
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+                sendJson(exchange, 429, error("rate_limit_exceeded", "Rate limit reached (stub)"));
+                return;
+            }
+            if (roll < rateLimitRatio + serverErrorRatio) {
+                serverErrors.increment();
+                sleep(delayNanos);
+                sendJson(exchange, ThreadLocalRandom.current().nextBoolean() ? 500 : 503,
+                        error("server_error", "The server had an error while processing your request (stub)"));
+                return;
+            }
+
+            long maxChars = request.has("max_tokens") ? request.path("max_tokens").asLong() * 2 : Long.MAX_VALUE;
+            String content = responseText.substring(0, (int) Math.min(responseText.length(), maxChars));
+            int prompt = estimateTokens(request.path("messages").toString());
+            int completion = estimateTokens(content);
+            promptTokens.add(prompt);
+            completionTokens.add(completion);
+
+            String model = request.path("model").asText("gpt-3.5-turbo");
+            String id = "chatcmpl-stub-" + sequence.incrementAndGet();
+            if (request.path("stream").asBoolean(false)) {
+                stream(exchange, request, id, model, content, delayNanos, prompt, completion);
+            } else {
+                sleep(delayNanos);
+                sendJson(exchange, 200, completion(id, model, content, prompt, completion));
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 전체 지연의 10%를 첫 토큰까지의 시간으로, 나머지를 청크 간격으로 나눠 SSE 전송
+     */
+    private void stream(HttpExchange exchange, JsonNode request, String id, String model, String content,
+                        long delayNanos, int prompt, int completion) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream body = exchange.getResponseBody();
+
+        sleep(delayNanos / 10);
+        int chunkSize = Math.max(1, content.length() / streamChunks);
+        long interval = (delayNanos - delayNanos / 10) / Math.max(1, (content.length() + chunkSize - 1) / chunkSize);
+        for (int start = 0; start < content.length(); start += chunkSize) {
+            String piece = content.substring(start, Math.min(content.length(), start + chunkSize));
+            writeEvent(body, chunk(id, model, piece, null));
+            sleep(interval);
+        }
+        writeEvent(body, chunk(id, model, null, "stop"));
+
+        if (request.path("stream_options").path("include_usage").asBoolean(false)) {
+            ObjectNode usageChunk = chunkBase(id, model);
+            usageChunk.putArray("choices");
+            usageChunk.set("usage", usage(prompt, completion));
+            writeEvent(body, usageChunk.toString());
+        }
+        body.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        body.flush();
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            ObjectNode stats = objectMapper.createObjectNode();
+            stats.put("requests", requests.sum());
+            stats.put("inFlight", inFlight.get());
+            stats.put("rateLimited", rateLimited.sum());
+            stats.put("serverErrors", serverErrors.sum());
+            stats.put("promptTokens", promptTokens.sum());
+            stats.put("completionTokens", completionTokens.sum());
+            sendJson(exchange, 200, stats.toString());
+        }
+    }
+
+    private String completion(String id, String model, String content, int prompt, int completion) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("id", id);
+        response.put("object", "chat.completion");
+        response.put("created", System.currentTimeMillis() / 1000);
+        response.put("model", model);
+        ObjectNode choice = response.putArray("choices").addObject();
+        choice.put("index", 0);
+        ObjectNode message = choice.putObject("message");
+        message.put("role", "assistant");
+        message.put("content", content);
+        choice.put("finish_reason", "stop");
+        response.set("usage", usage(prompt, completion));
+        return response.toString();
+    }
+
+    private String chunk(String id, String model, String content, String finishReason) {
+        ObjectNode chunk = chunkBase(id, model);
+        ArrayNode choices = chunk.putArray("choices");
+        ObjectNode choice = choices.addObject();
+        choice.put("index", 0);
+        ObjectNode delta = choice.putObject("delta");
+        if (content != null) {
+            delta.put("role", "assistant");
+            delta.put("content", content);
+        }
+        if (finishReason != null) {
+            choice.put("finish_reason", finishReason);
+        } else {
+            choice.putNull("finish_reason");
+        }
+        return chunk.toString();
+    }
+
+    private ObjectNode chunkBase(String id, String model) {
+        ObjectNode chunk = objectMapper.createObjectNode();
+        chunk.put("id", id);
+        chunk.put("object", "chat.completion.chunk");
+        chunk.put("created", System.currentTimeMillis() / 1000);
+        chunk.put("model", model);
+        return chunk;
+    }
+
+    private ObjectNode usage(int prompt, int completion) {
+        ObjectNode usage = objectMapper.createObjectNode();
+        usage.put("prompt_tokens", prompt);
+        usage.put("completion_tokens", completion);
+        usage.put("total_tokens", prompt + completion);
+        return usage;
+    }
+
+    private String error(String code, String message) {
+        ObjectNode error = objectMapper.createObjectNode();
+        ObjectNode detail = error.putObject("error");
+        detail.put("message", message);
+        detail.put("type", code);
+        detail.put("code", code);
+        return error.toString();
+    }
+
+    /**
+     * 한글 위주 텍스트 기준 대략적인 토큰 수 (약 2글자당 1토큰)
+     */
+    private static int estimateTokens(String text) {
+        return (text.length() + 1) / 2;
+    }
+
+    private static void writeEvent(OutputStream body, String data) throws IOException {
+        body.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        body.flush();
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
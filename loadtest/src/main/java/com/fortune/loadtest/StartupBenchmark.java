@@ -0,0 +1,162 @@
+package com.fortune.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 방식별 첫 요청까지의 시간(time-to-first-request) 측정
+ * 서버 프로세스를 새로 띄울 때마다 시작 시점부터 --path 가 처음 2xx로 응답할 때까지의 시간을 기록
+ *
+ * --dir      빠른 기동 빌드 디렉토리 (fortune-app.jar, lib/, fortune-app.jsa)
+ * --modes    jar | aot | aot-cds (쉼표로 구분, jar는 AOT/CDS 없이 같은 jar로 기동)
+ * --runs     방식별 기동 횟수
+ * --port     서버 포트, --path 확인할 경로
+ * --timeout  한 번의 기동을 기다리는 최대 시간
+ * --output   결과 CSV 저장 경로 (mode,run,millis)
+ */
+public class StartupBenchmark {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    /**
+     * 측정 중에는 외부 연결 없이 기동 (H2 메모리 DB, Redis 비활성화)
+     */
+    private static final List<String> APP_ARGS = List.of(
+            "--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+            "--fortune.cache.redis.enabled=false");
+
+    private final Path dir;
+    private final List<String> modes;
+    private final int runs;
+    private final int port;
+    private final String path;
+    private final Duration timeout;
+    private final Path output;
+
+    StartupBenchmark(CommandLineOptions options) {
+        this.dir = Path.of(options.getString("dir", "../server/build/fast-start")).toAbsolutePath();
+        this.modes = Arrays.asList(options.getString("modes", "jar,aot,aot-cds").split(","));
+        this.runs = options.getInt("runs", 5);
+        this.port = options.getInt("port", 18080);
+        this.path = options.getString("path", "/api/actuator/health");
+        this.timeout = options.getDuration("timeout", Duration.ofMinutes(2));
+        this.output = Path.of(options.getString("output", "build/loadtest/startup.csv"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StartupBenchmark(new CommandLineOptions(args)).run();
+    }
+
+    void run() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        URI target = URI.create("http://localhost:" + port + path);
+        Path log = output.toAbsolutePath().resolveSibling("startup-server.log");
+        Files.createDirectories(log.getParent());
+
+        System.out.printf("기동 시간 측정 시작 - %s, 방식 %s, %d회%n", dir, modes, runs);
+        Map<String, List<Long>> results = new LinkedHashMap<>();
+        for (String mode : modes) {
+            List<Long> millis = new ArrayList<>();
+            for (int run = 1; run <= runs; run++) {
+                long elapsed = measure(client, target, command(mode), log);
+                millis.add(elapsed);
+                System.out.printf("  %-8s #%d  %,d ms%n", mode, run, elapsed);
+            }
+            results.put(mode, millis);
+        }
+
+        report(results);
+    }
+
+    private List<String> command(String mode) {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        List<String> command = new ArrayList<>(List.of(java));
+        switch (mode) {
+            case "jar" -> { }
+            case "aot" -> command.add("-Dspring.aot.enabled=true");
+            case "aot-cds" -> {
+                command.add("-XX:SharedArchiveFile=fortune-app.jsa");
+                command.add("-Dspring.aot.enabled=true");
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 기동 방식입니다: " + mode);
+        }
+        command.addAll(List.of("-jar", "fortune-app.jar", "--server.port=" + port));
+        command.addAll(APP_ARGS);
+        return command;
+    }
+
+    /**
+     * 프로세스 시작부터 첫 2xx 응답까지의 시간 (ms), 측정 후 프로세스 종료
+     */
+    private long measure(HttpClient client, URI target, List<String> command, Path log)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(target).timeout(Duration.ofSeconds(1)).GET().build();
+        long startNanos = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = startNanos + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("서버 프로세스가 종료되었습니다 (exit " + process.exitValue()
+                            + "), 로그: " + log);
+                }
+                try {
+                    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status >= 200 && status < 300) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않았거나 기동 중 연결이 끊긴 경우 다시 시도
+                }
+                TimeUnit.NANOSECONDS.sleep(POLL_INTERVAL.toNanos());
+            }
+            throw new IllegalStateException("기동 대기 시간 초과 (" + timeout.toSeconds() + "s), 로그: " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private void report(Map<String, List<Long>> results) throws IOException {
+        PrintStream out = System.out;
+        out.printf("%n첫 요청까지의 시간(ms)%n");
+        for (Map.Entry<String, List<Long>> entry : results.entrySet()) {
+            long[] sorted = entry.getValue().stream().mapToLong(Long::longValue).sorted().toArray();
+            out.printf("  %-8s min %,d, median %,d, max %,d%n",
+                    entry.getKey(), sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1]);
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (PrintStream file = new PrintStream(Files.newOutputStream(output))) {
+            file.println("mode,run,millis");
+            results.forEach((mode, millis) -> {
+                for (int i = 0; i < millis.size(); i++) {
+                    file.println(mode + "," + (i + 1) + "," + millis.get(i));
+                }
+            });
+        }
+        out.println("결과 저장: " + output.toAbsolutePath());
+    }
+}
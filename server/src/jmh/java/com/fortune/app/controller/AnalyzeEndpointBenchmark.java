@@ -0,0 +1,106 @@
+package com.fortune.app.controller;
+
+import com.fortune.app.FortuneApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * /fortune/analyze 전체 경로 벤치마크 (검증 → 서비스 → 프롬프트 렌더링 → ChatModel → 직렬화)
+ * OpenAI 호출은 고정 응답을 돌려주는 ChatModel로 대체하고 캐시와 저장소는 꺼서 매 요청이 전체 경로를 지나도록 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnalyzeEndpointBenchmark {
+
+    private static final String STUB_RESULT = "## 1. 사주 기본 분석\n- 오행이 고르게 분포되어 있습니다.\n".repeat(40);
+
+    @Param({"SAJU", "DAILY"})
+    private String fortuneType;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private String requestBody;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(FortuneApplication.class, StubChatModelConfig.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.ai.openai.api-key=benchmark",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.fortune.app=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.springframework.ai=WARN",
+                        "--fortune.cache.saju.enabled=false",
+                        "--fortune.cache.daily.enabled=false",
+                        "--fortune.store.enabled=false",
+                        "--fortune.cache.daily.pregeneration.enabled=false",
+                        "--fortune.fallback.enabled=false");
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        requestBody = """
+                {"birthDate":"1990-05-15","birthTime":"10:30","gender":"FEMALE","fortuneType":"%s"}
+                """.formatted(fortuneType);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] analyze() throws Exception {
+        MvcResult result = mockMvc.perform(post("/fortune/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result.getResponse().getContentAsByteArray();
+    }
+
+    @Configuration
+    static class StubChatModelConfig {
+
+        @Bean
+        @Primary
+        ChatModel stubChatModel() {
+            ChatResponse response = new ChatResponse(List.of(new Generation(new AssistantMessage(STUB_RESULT))));
+            return new ChatModel() {
+                @Override
+                public ChatResponse call(Prompt prompt) {
+                    return response;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.fortune.app.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO의 Jackson 직렬화 벤치마크 (Spring MVC와 같은 ObjectMapper 설정 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private FortuneResponse fortuneResponse;
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        fortuneResponse = FortuneResponse.of("사주", "## 1. 사주 기본 분석\n".repeat(150));
+        errorResponse = ErrorResponse.of(400, "Bad Request", "생년월일 형식이 올바르지 않습니다.", "/api/fortune/analyze");
+    }
+
+    @Benchmark
+    public byte[] serializeFortuneResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fortuneResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeErrorResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+}
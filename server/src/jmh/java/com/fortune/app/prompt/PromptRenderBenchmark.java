@@ -0,0 +1,65 @@
+package com.fortune.app.prompt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사주 프롬프트 로딩/렌더링 벤치마크
+ * Spring AI PromptTemplate(매 요청 파싱)과 미리 컴파일된 CompiledPrompt 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromptRenderBenchmark {
+
+    private static final String PROMPT_LOCATION = "prompts/saju-prompt.txt";
+
+    private String template;
+    private CompiledPrompt compiledPrompt;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setUp() throws IOException {
+        template = loadTemplate();
+        compiledPrompt = CompiledPrompt.compile("saju-prompt", template, PROMPT_LOCATION);
+        variables = Map.of(
+                "gender", "여성",
+                "birthDate", "1990-05-15",
+                "birthTime", "10시 30분",
+                "pillars", "년주 경오(庚午), 월주 신사(辛巳), 일주 경진(庚辰), 시주 신사(辛巳)",
+                "elements", "목(木) 0개, 화(火) 3개, 토(土) 1개, 금(金) 4개, 수(水) 0개"
+        );
+    }
+
+    @Benchmark
+    public String loadTemplate() throws IOException {
+        return new ClassPathResource(PROMPT_LOCATION).getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public CompiledPrompt compileTemplate() {
+        return CompiledPrompt.compile("saju-prompt", template, PROMPT_LOCATION);
+    }
+
+    @Benchmark
+    public String renderPromptTemplate() {
+        return new PromptTemplate(template).render(variables);
+    }
+
+    @Benchmark
+    public String renderCompiledPrompt() {
+        return compiledPrompt.render(variables);
+    }
+}
@@ -0,0 +1,46 @@
+package com.fortune.app.service;
+
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 검증 및 생시 포맷팅 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestPreparationBenchmark {
+
+    private AnalyzeFortuneRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new AnalyzeFortuneRequest();
+        request.setBirthDate("1990-05-15");
+        request.setBirthTime("10:30");
+        request.setGender(Gender.FEMALE);
+        request.setFortuneType(FortuneType.SAJU);
+    }
+
+    @Benchmark
+    public void validateBirthInfo(Blackhole blackhole) {
+        FortuneService.validateBirthInfo(request);
+        blackhole.consume(request);
+    }
+
+    @Benchmark
+    public String formatBirthTime() {
+        return OpenAIService.formatBirthTime(request.getBirthTime());
+    }
+}
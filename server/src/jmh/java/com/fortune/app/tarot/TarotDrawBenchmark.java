@@ -0,0 +1,49 @@
+package com.fortune.app.tarot;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 타로 카드 뽑기 및 프롬프트용 카드 목록 생성 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TarotDrawBenchmark {
+
+    private static final String PROFILE_HASH = "3f1d2c4b5a6978877665544332211000ffeeddccbbaa99887766554433221100";
+
+    private TarotReader tarotReader;
+    private TarotReading reading;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        tarotReader = new TarotReader(new TarotDeck());
+        date = LocalDate.of(2025, 1, 1);
+        reading = tarotReader.draw(PROFILE_HASH, date, TarotSpread.THREE_CARD);
+    }
+
+    @Benchmark
+    public TarotReading drawThreeCards() {
+        return tarotReader.draw(PROFILE_HASH, date, TarotSpread.THREE_CARD);
+    }
+
+    @Benchmark
+    public TarotReading drawFiveCards() {
+        return tarotReader.draw(PROFILE_HASH, date, TarotSpread.FIVE_CARD);
+    }
+
+    @Benchmark
+    public String formatCards() {
+        return reading.formatCards();
+    }
+}
@@ -0,0 +1,226 @@
+package com.fortune.app.cache;
+
+import com.fortune.app.config.FortuneCacheProperties;
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.dto.CacheStatsResponse;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.prompt.PromptChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 날짜 단위 결과 캐시 (오늘의 운세, 오늘의 타로 해석)
+ * 결과는 날짜 단위로만 유효하므로 날짜별 파티션으로 저장하고 자정에 지난 파티션을 통째로 제거
+ * 인스턴스별 L1(Caffeine)에 없으면 공유 L2(Redis)를 조회
+ */
+@Component
+@Slf4j
+public class DailyFortuneCache {
+
+    private final ConcurrentMap<LocalDate, Cache<FortuneCacheKey, String>> partitions = new ConcurrentHashMap<>();
+    private final RecentProfiles recentProfiles;
+    private final FortuneCacheProperties.Daily properties;
+    private final RedisFortuneCache sharedCache;
+    private final ZoneId zone;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public DailyFortuneCache(FortuneCacheProperties properties, RedisFortuneCache sharedCache, MeterRegistry meterRegistry) {
+        this.properties = properties.getDaily();
+        this.sharedCache = sharedCache;
+        this.zone = this.properties.getZone();
+        this.recentProfiles = new RecentProfiles(
+                this.properties.getRecentProfileSize(), this.properties.getRecentProfileTtl());
+
+        FunctionCounter.builder("cache.gets", hitCount, LongAdder::sum)
+                .tags("cache", "fortune.daily", "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", missCount, LongAdder::sum)
+                .tags("cache", "fortune.daily", "result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 설정된 시간대 기준 오늘 날짜
+     */
+    public LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * 오늘 날짜 파티션에서 결과를 조회하고, 없으면 loader로 생성 후 저장
+     */
+    public String get(AnalyzeFortuneRequest request, Function<LocalDate, String> loader) {
+        LocalDate today = today();
+        if (!properties.isEnabled()) {
+            return loader.apply(today);
+        }
+
+        String cached = getIfPresent(today, request);
+        if (cached != null) {
+            return cached;
+        }
+
+        String result = loader.apply(today);
+        put(today, request, result);
+        return result;
+    }
+
+    /**
+     * 지정한 날짜 파티션에서 결과 조회
+     * 조회한 프로필은 사전 생성 대상으로 기록
+     */
+    public String getIfPresent(LocalDate date, AnalyzeFortuneRequest request) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        FortuneCacheKey key = FortuneCacheKey.of(request);
+        recentProfiles.record(key, request);
+
+        String cached = partition(date).getIfPresent(key);
+        if (cached != null) {
+            hitCount.increment();
+            log.debug("오늘의 운세 캐시 적중 - 날짜: {}, 타입: {}", date, key.fortuneType());
+            return cached;
+        }
+
+        missCount.increment();
+        return loadShared(date, key);
+    }
+
+    /**
+     * L1 또는 L2에 결과가 있는지 확인 (사전 생성 대상 판단용, L2 적중 시 L1에 저장)
+     */
+    public boolean contains(LocalDate date, AnalyzeFortuneRequest request) {
+        FortuneCacheKey key = FortuneCacheKey.of(request);
+        Cache<FortuneCacheKey, String> partition = partitions.get(date);
+        if (partition != null && partition.getIfPresent(key) != null) {
+            return true;
+        }
+        return properties.isEnabled() && loadShared(date, key) != null;
+    }
+
+    public void put(LocalDate date, AnalyzeFortuneRequest request, String result) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        FortuneCacheKey key = FortuneCacheKey.of(request);
+        partition(date).put(key, result);
+        sharedCache.put(key, date, result);
+    }
+
+    /**
+     * 이 인스턴스의 L1에만 저장 (저장소에서 불러온 결과 등)
+     */
+    public void putLocal(LocalDate date, AnalyzeFortuneRequest request, String result) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        partition(date).put(FortuneCacheKey.of(request), result);
+    }
+
+    /**
+     * 최근 조회된 프로필을 이전 호출에 이어서 최대 limit건 반환 (사전 생성 대상)
+     */
+    public List<AnalyzeFortuneRequest> nextRecentProfiles(int limit) {
+        return recentProfiles.next(limit);
+    }
+
+    /**
+     * 자정에 지난 날짜 파티션 제거
+     */
+    @Scheduled(cron = "0 0 0 * * *", zone = "${fortune.cache.daily.zone:Asia/Seoul}")
+    public void rollover() {
+        LocalDate today = today();
+        partitions.keySet().removeIf(date -> {
+            if (date.isBefore(today)) {
+                log.info("오늘의 운세 캐시 파티션 제거 - 날짜: {}", date);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 전체 캐시 무효화, L2도 비우고 다른 인스턴스에 L1 무효화를 알림
+     */
+    public void invalidateAll() {
+        log.info("오늘의 운세 캐시 전체 무효화 - 파티션 수: {}", partitions.size());
+        partitions.clear();
+        sharedCache.invalidate(FortuneType.DAILY);
+        sharedCache.invalidate(FortuneType.TAROT);
+    }
+
+    /**
+     * 다른 인스턴스에서 무효화한 경우 이 인스턴스의 L1만 무효화
+     */
+    @EventListener
+    public void onSharedCacheInvalidated(SharedCacheInvalidatedEvent event) {
+        if (event.fortuneType().isDated()) {
+            log.info("오늘의 운세 L1 캐시 무효화 (원격 요청) - 파티션 수: {}", partitions.size());
+            partitions.clear();
+        }
+    }
+
+    /**
+     * 프롬프트가 변경되면 이전 프롬프트로 생성된 결과를 무효화
+     */
+    @EventListener
+    public void onPromptChanged(PromptChangedEvent event) {
+        if (FortuneType.DAILY.usesPrompt(event.name()) || FortuneType.TAROT.usesPrompt(event.name())) {
+            invalidateAll();
+        }
+    }
+
+    public CacheStatsResponse stats() {
+        long size = partitions.values().stream().mapToLong(Cache::estimatedSize).sum();
+        long evictions = partitions.values().stream().mapToLong(cache -> cache.stats().evictionCount()).sum();
+        long hits = hitCount.sum();
+        long misses = missCount.sum();
+        long requests = hits + misses;
+
+        return CacheStatsResponse.builder()
+                .name("daily")
+                .size(size)
+                .hitCount(hits)
+                .missCount(misses)
+                .hitRate(requests == 0 ? 1.0 : (double) hits / requests)
+                .evictionCount(evictions)
+                .build();
+    }
+
+    private String loadShared(LocalDate date, FortuneCacheKey key) {
+        String shared = sharedCache.get(key, date);
+        if (shared != null) {
+            partition(date).put(key, shared);
+        }
+        return shared;
+    }
+
+    private Cache<FortuneCacheKey, String> partition(LocalDate date) {
+        return partitions.computeIfAbsent(date, d -> Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSizePerDay())
+                .recordStats()
+                .build());
+    }
+}
@@ -0,0 +1,62 @@
+package com.fortune.app.cache;
+
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.Gender;
+import com.fortune.app.enumerate.OutputFormat;
+import com.fortune.app.manse.ManseCalendar;
+import com.fortune.app.manse.SajuPillars;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+
+/**
+ * 운세 결과 캐시 키
+ * 생시는 만세력으로 계산한 사주 팔자로 정규화하여 팔자가 같은 출생자는 동일한 프로필로 취급
+ * (보통은 같은 시진이면 같은 팔자이지만, 절입일에는 같은 시진이라도 절입 시각 전후로 년주/월주가 달라짐)
+ */
+public record FortuneCacheKey(FortuneType fortuneType, Gender gender, String birthDate, SajuPillars pillars,
+                              OutputFormat outputFormat) {
+
+    public static FortuneCacheKey of(AnalyzeFortuneRequest request) {
+        return new FortuneCacheKey(
+                request.getFortuneType(),
+                request.getGender(),
+                request.getBirthDate(),
+                pillarsOf(request),
+                request.getOutputFormat()
+        );
+    }
+
+    /**
+     * 운세 타입을 제외한 정규화 프로필(성별, 생년월일, 사주 팔자)의 SHA-256 해시
+     */
+    public String profileHash() {
+        String profile = gender + "|" + birthDate + "|" + (pillars != null ? pillars.formatPillars() : "");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(profile.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 만세력으로 계산할 수 없는 생년월일(형식 오류, 지원 범위 밖)은 null
+     * 이런 요청은 검증 단계에서 거절되므로 결과가 캐시되거나 저장되지 않음
+     */
+    private static SajuPillars pillarsOf(AnalyzeFortuneRequest request) {
+        if (request.getBirthDate() == null) {
+            return null;
+        }
+        try {
+            return ManseCalendar.pillarsOf(LocalDate.parse(request.getBirthDate()), request.getBirthTime());
+        } catch (DateTimeException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.fortune.app.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * L2 캐시 값 직렬화
+ * [형식 버전 1바이트][원문 UTF-8 길이 4바이트][raw deflate 압축 데이터]
+ */
+final class FortuneValueCodec {
+
+    private static final byte FORMAT_DEFLATE = 1;
+    private static final int HEADER_LENGTH = 5;
+
+    private FortuneValueCodec() {
+    }
+
+    static byte[] encode(String value, int level) {
+        byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + HEADER_LENGTH);
+            out.write(FORMAT_DEFLATE);
+            out.write(raw.length >>> 24);
+            out.write(raw.length >>> 16);
+            out.write(raw.length >>> 8);
+            out.write(raw.length);
+
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static String decode(byte[] encoded) {
+        if (encoded.length < HEADER_LENGTH || encoded[0] != FORMAT_DEFLATE) {
+            throw new IllegalArgumentException("지원하지 않는 캐시 값 형식입니다");
+        }
+
+        int length = ((encoded[1] & 0xFF) << 24) | ((encoded[2] & 0xFF) << 16)
+                | ((encoded[3] & 0xFF) << 8) | (encoded[4] & 0xFF);
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(encoded, HEADER_LENGTH, encoded.length - HEADER_LENGTH);
+            byte[] raw = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int read = inflater.inflate(raw, offset, length - offset);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += read;
+            }
+            if (offset != length) {
+                throw new IllegalArgumentException("손상된 캐시 값입니다");
+            }
+            return new String(raw, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("손상된 캐시 값입니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
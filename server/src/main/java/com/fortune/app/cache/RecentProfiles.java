@@ -0,0 +1,88 @@
+package com.fortune.app.cache;
+
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 조회된 프로필의 고정 크기 링 버퍼 (오늘의 운세 사전 생성 대상)
+ * 기록은 O(1)이고, 조회는 커서 위치부터 필요한 만큼만 읽으므로 매 주기마다 전체 목록을 복사하지 않음
+ * 이미 버퍼에 있는 프로필은 다시 기록하지 않고, 덮어쓰이거나 ttl이 지나면 다시 기록 대상이 됨
+ */
+final class RecentProfiles {
+
+    private record Entry(FortuneCacheKey key, AnalyzeFortuneRequest request, long sequence, long recordedAt) {
+    }
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final AtomicLong written = new AtomicLong();
+    private final Cache<FortuneCacheKey, Long> recorded;
+    private final Ticker ticker;
+    private final long ttlNanos;
+    private long cursor;
+
+    RecentProfiles(int capacity, Duration ttl) {
+        this(capacity, ttl, Ticker.systemTicker());
+    }
+
+    RecentProfiles(int capacity, Duration ttl, Ticker ticker) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+        this.ticker = ticker;
+        this.ttlNanos = ttl.toNanos();
+        this.recorded = Caffeine.newBuilder()
+                .maximumSize(slots.length())
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build();
+    }
+
+    void record(FortuneCacheKey key, AnalyzeFortuneRequest request) {
+        if (recorded.getIfPresent(key) != null) {
+            return;
+        }
+
+        long sequence = written.getAndIncrement();
+        // 같은 프로필이 동시에 기록되면 먼저 등록한 쪽만 슬롯을 사용하고 나머지는 슬롯을 비움
+        Entry entry = recorded.asMap().putIfAbsent(key, sequence) == null
+                ? new Entry(key, request, sequence, ticker.read())
+                : null;
+        Entry previous = slots.getAndSet(index(sequence), entry);
+        if (previous != null) {
+            recorded.asMap().remove(previous.key(), previous.sequence());
+        }
+    }
+
+    /**
+     * 이전 호출이 멈춘 위치부터 유효한 프로필을 최대 limit건 반환 (버퍼 끝에 닿으면 처음부터 다시, 한 번에 최대 한 바퀴)
+     * 사전 생성 스케줄러 한 곳에서만 호출
+     */
+    synchronized List<AnalyzeFortuneRequest> next(int limit) {
+        long end = written.get();
+        long start = Math.max(0, end - slots.length());
+        if (cursor < start || cursor >= end) {
+            cursor = start;
+        }
+
+        List<AnalyzeFortuneRequest> profiles = new ArrayList<>(Math.min(limit, slots.length()));
+        long now = ticker.read();
+        for (long scanned = 0; scanned < end - start && profiles.size() < limit; scanned++) {
+            Entry entry = slots.get(index(cursor));
+            if (entry != null && entry.sequence() == cursor && now - entry.recordedAt() < ttlNanos) {
+                profiles.add(entry.request());
+            }
+            cursor = cursor + 1 < end ? cursor + 1 : start;
+        }
+        return profiles;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % slots.length());
+    }
+}
@@ -0,0 +1,213 @@
+package com.fortune.app.cache;
+
+import com.fortune.app.config.FortuneCacheProperties;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.prompt.PromptTemplateRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 공유 L2 캐시 (Redis)
+ * 값은 압축된 바이너리로 저장하고, 키에 프롬프트 버전을 포함하여 프롬프트가 바뀐 인스턴스는 이전 결과를 읽지 않음
+ * 무효화 시 pub/sub으로 다른 인스턴스에 알려 각자의 L1 캐시를 비우게 함
+ * Redis 장애는 캐시 미스로 취급하여 요청 처리에 영향을 주지 않음
+ */
+@Component
+@Slf4j
+public class RedisFortuneCache {
+
+    private static final String NO_DATE = "-";
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    private final FortuneCacheProperties.Redis properties;
+    private final RedisConnectionFactory connectionFactory;
+    private final PromptTemplateRegistry promptTemplateRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    public RedisFortuneCache(FortuneCacheProperties cacheProperties,
+                             RedisConnectionFactory connectionFactory,
+                             PromptTemplateRegistry promptTemplateRegistry,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry) {
+        this.properties = cacheProperties.getRedis();
+        this.connectionFactory = connectionFactory;
+        this.promptTemplateRegistry = promptTemplateRegistry;
+        this.eventPublisher = eventPublisher;
+
+        this.redisTemplate = new RedisTemplate<>();
+        this.redisTemplate.setConnectionFactory(connectionFactory);
+        this.redisTemplate.setKeySerializer(RedisSerializer.string());
+        this.redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        this.redisTemplate.afterPropertiesSet();
+
+        this.hitCounter = resultCounter(meterRegistry, "hit");
+        this.missCounter = resultCounter(meterRegistry, "miss");
+        this.errorCounter = resultCounter(meterRegistry, "error");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(this::onInvalidationMessage, new ChannelTopic(properties.getInvalidationChannel()));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("공유 캐시 무효화 채널 구독 - 채널: {}, 노드: {}", properties.getInvalidationChannel(), nodeId);
+    }
+
+    @PreDestroy
+    void unsubscribe() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 공유 캐시 조회 (사주는 date를 무시)
+     */
+    public String get(FortuneCacheKey key, LocalDate date) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        try {
+            byte[] value = redisTemplate.opsForValue().get(redisKey(key, date));
+            if (value == null) {
+                missCounter.increment();
+                return null;
+            }
+            hitCounter.increment();
+            return FortuneValueCodec.decode(value);
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("공유 캐시 조회 실패 - 타입: {}, 원인: {}", key.fortuneType(), e.getMessage());
+            return null;
+        }
+    }
+
+    public void put(FortuneCacheKey key, LocalDate date, String result) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Duration ttl = key.fortuneType().isDated() ? properties.getDailyTtl() : properties.getSajuTtl();
+        try {
+            redisTemplate.opsForValue().set(redisKey(key, date),
+                    FortuneValueCodec.encode(result, properties.getCompressionLevel()), ttl);
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("공유 캐시 저장 실패 - 타입: {}, 원인: {}", key.fortuneType(), e.getMessage());
+        }
+    }
+
+    /**
+     * 운세 타입의 공유 캐시 항목을 모두 삭제하고 다른 인스턴스에 L1 무효화를 알림
+     */
+    public void invalidate(FortuneType fortuneType) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try {
+            Long deleted = redisTemplate.execute((RedisCallback<Long>) connection -> {
+                ScanOptions options = ScanOptions.scanOptions()
+                        .match(properties.getKeyPrefix() + ":" + typeSegment(fortuneType) + ":*")
+                        .count(DELETE_BATCH_SIZE)
+                        .build();
+                long count = 0;
+                List<byte[]> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    while (cursor.hasNext()) {
+                        batch.add(cursor.next());
+                        if (batch.size() == DELETE_BATCH_SIZE) {
+                            count += connection.keyCommands().unlink(batch.toArray(byte[][]::new));
+                            batch.clear();
+                        }
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    count += connection.keyCommands().unlink(batch.toArray(byte[][]::new));
+                }
+                return count;
+            });
+            // 값 직렬화가 byte[]이므로 메시지도 바이트로 변환해서 발행
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(),
+                    (nodeId + "|" + fortuneType.name()).getBytes(StandardCharsets.UTF_8));
+            log.info("공유 캐시 무효화 - 타입: {}, 삭제 항목 수: {}", fortuneType, deleted);
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("공유 캐시 무효화 실패 - 타입: {}, 원인: {}", fortuneType, e.getMessage());
+        }
+    }
+
+    private void onInvalidationMessage(Message message, byte[] pattern) {
+        String[] payload = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (payload.length != 2 || nodeId.equals(payload[0])) {
+            return;
+        }
+
+        try {
+            FortuneType fortuneType = FortuneType.valueOf(payload[1]);
+            log.info("다른 인스턴스의 캐시 무효화 수신 - 타입: {}", fortuneType);
+            eventPublisher.publishEvent(new SharedCacheInvalidatedEvent(fortuneType));
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 캐시 무효화 메시지: {}", payload[1]);
+        }
+    }
+
+    private String redisKey(FortuneCacheKey key, LocalDate date) {
+        return properties.getKeyPrefix()
+                + ":" + typeSegment(key.fortuneType())
+                + ":" + promptTemplateRegistry.getVersion(key.fortuneType(), key.outputFormat())
+                + ":" + (key.fortuneType().isDated() ? date.toString() : NO_DATE)
+                + ":" + key.profileHash();
+    }
+
+    private static String typeSegment(FortuneType fortuneType) {
+        return fortuneType.name().toLowerCase();
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("fortune.cache.l2.requests")
+                .description("공유 L2 캐시 조회/저장 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
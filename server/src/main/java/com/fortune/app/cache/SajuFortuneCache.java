@@ -0,0 +1,143 @@
+package com.fortune.app.cache;
+
+import com.fortune.app.config.FortuneCacheProperties;
+import com.fortune.app.dto.CacheStatsResponse;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.prompt.PromptChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 사주 해석 결과 캐시
+ * 사주 결과는 성별, 생년월일, 사주 팔자에만 의존하므로 프로필 단위로 재사용
+ * 인스턴스별 L1(Caffeine)에 없으면 공유 L2(Redis)를 조회
+ */
+@Component
+@Slf4j
+public class SajuFortuneCache {
+
+    private final Cache<FortuneCacheKey, String> cache;
+    private final Cache<FortuneCacheKey, String> staleCache;
+    private final RedisFortuneCache sharedCache;
+    private final boolean enabled;
+
+    public SajuFortuneCache(FortuneCacheProperties properties, RedisFortuneCache sharedCache, MeterRegistry meterRegistry) {
+        FortuneCacheProperties.Saju saju = properties.getSaju();
+        this.enabled = saju.isEnabled();
+        this.sharedCache = sharedCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(saju.getMaximumSize())
+                .expireAfterWrite(saju.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "fortune.saju");
+        this.staleCache = Caffeine.newBuilder()
+                .maximumSize(saju.getMaximumSize())
+                .expireAfterWrite(saju.getStaleTtl())
+                .build();
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 loader로 생성 후 저장
+     * 모델 호출 동안 캐시 내부 잠금을 잡지 않도록 조회와 저장을 분리
+     */
+    public String get(FortuneCacheKey key, Supplier<String> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String cached = getIfPresent(key);
+        if (cached != null) {
+            log.debug("사주 캐시 적중 - 결과 형식: {}", key.outputFormat());
+            return cached;
+        }
+
+        String result = loader.get();
+        put(key, result);
+        return result;
+    }
+
+    /**
+     * L1 조회 후 없으면 L2 조회 (L2 적중 시 L1에 저장)
+     */
+    public String getIfPresent(FortuneCacheKey key) {
+        if (!enabled) {
+            return null;
+        }
+
+        String cached = cache.getIfPresent(key);
+        if (cached == null) {
+            cached = sharedCache.get(key, null);
+            if (cached != null) {
+                putLocal(key, cached);
+            }
+        }
+        return cached;
+    }
+
+    public void put(FortuneCacheKey key, String result) {
+        putLocal(key, result);
+        if (enabled) {
+            sharedCache.put(key, null, result);
+        }
+    }
+
+    /**
+     * 이 인스턴스의 L1에만 저장 (저장소에서 불러온 결과 등)
+     */
+    public void putLocal(FortuneCacheKey key, String result) {
+        if (enabled) {
+            cache.put(key, result);
+        }
+        staleCache.put(key, result);
+    }
+
+    /**
+     * 만료 또는 무효화된 이후에도 장애 대비용으로 보관 중인 마지막 결과
+     */
+    public String getStale(FortuneCacheKey key) {
+        return staleCache.getIfPresent(key);
+    }
+
+    /**
+     * 전체 캐시 무효화 (프롬프트 변경 시, 장애 대비용 결과는 유지)
+     * L2도 비우고 다른 인스턴스에 L1 무효화를 알림
+     */
+    public void invalidateAll() {
+        log.info("사주 캐시 전체 무효화 - 항목 수: {}", cache.estimatedSize());
+        cache.invalidateAll();
+        sharedCache.invalidate(FortuneType.SAJU);
+    }
+
+    /**
+     * 다른 인스턴스에서 무효화한 경우 이 인스턴스의 L1만 무효화
+     */
+    @EventListener
+    public void onSharedCacheInvalidated(SharedCacheInvalidatedEvent event) {
+        if (event.fortuneType() == FortuneType.SAJU) {
+            log.info("사주 L1 캐시 무효화 (원격 요청) - 항목 수: {}", cache.estimatedSize());
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * 프롬프트가 변경되면 이전 프롬프트로 생성된 결과를 무효화
+     */
+    @EventListener
+    public void onPromptChanged(PromptChangedEvent event) {
+        if (FortuneType.SAJU.usesPrompt(event.name())) {
+            invalidateAll();
+        }
+    }
+
+    public CacheStatsResponse stats() {
+        return CacheStatsResponse.of("saju", cache.estimatedSize(), cache.stats());
+    }
+}
@@ -0,0 +1,9 @@
+package com.fortune.app.cache;
+
+import com.fortune.app.enumerate.FortuneType;
+
+/**
+ * 다른 인스턴스에서 캐시를 무효화했을 때 발행되는 이벤트 (로컬 L1만 무효화하는 용도)
+ */
+public record SharedCacheInvalidatedEvent(FortuneType fortuneType) {
+}
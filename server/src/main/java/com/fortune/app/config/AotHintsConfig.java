@@ -0,0 +1,62 @@
+package com.fortune.app.config;
+
+import com.fortune.app.dto.AnalyzeFortuneBatchRequest;
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.dto.CacheStatsResponse;
+import com.fortune.app.dto.DailyFortuneResult;
+import com.fortune.app.dto.ErrorResponse;
+import com.fortune.app.dto.FortuneBatchResponse;
+import com.fortune.app.dto.FortuneResponse;
+import com.fortune.app.dto.PromptVersionResponse;
+import com.fortune.app.dto.SajuFortuneResult;
+import com.fortune.app.dto.StructuredFortuneResponse;
+import com.fortune.app.dto.TarotFortuneResult;
+import com.fortune.app.service.OpenAIService;
+import com.fortune.app.support.ClientRateLimiter;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.retry.annotation.Retryable;
+
+/**
+ * AOT 처리(빠른 기동 빌드, native image)용 런타임 힌트
+ * Jackson으로 읽고 쓰는 Lombok DTO, 재시도 어노테이션을 리플렉션으로 읽는 서비스, 패턴으로 읽는 리소스를 등록
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(AotHintsConfig.FortuneRuntimeHints.class)
+@RegisterReflectionForBinding({
+        AnalyzeFortuneRequest.class,
+        AnalyzeFortuneBatchRequest.class,
+        FortuneResponse.class,
+        FortuneBatchResponse.class,
+        StructuredFortuneResponse.class,
+        SajuFortuneResult.class,
+        DailyFortuneResult.class,
+        TarotFortuneResult.class,
+        ErrorResponse.class,
+        CacheStatsResponse.class,
+        PromptVersionResponse.class,
+        ClientRateLimiter.ClientRejections.class
+})
+public class AotHintsConfig {
+
+    static class FortuneRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources()
+                    .registerPattern("prompts/*.txt")
+                    .registerPattern("schemas/*.json")
+                    .registerPattern("sql/*.sql");
+
+            // @Retryable(interceptor = ...)은 프록시 생성 시 대상 메서드의 어노테이션을 리플렉션으로 조회
+            hints.reflection()
+                    .registerType(OpenAIService.class, MemberCategory.INTROSPECT_PUBLIC_METHODS,
+                            MemberCategory.INVOKE_PUBLIC_METHODS)
+                    .registerType(Retryable.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.fortune.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * 운세 결과 캐시 설정
+ */
+@Data
+@ConfigurationProperties(prefix = "fortune.cache")
+public class FortuneCacheProperties {
+
+    private Saju saju = new Saju();
+    private Daily daily = new Daily();
+    private Redis redis = new Redis();
+
+    @Data
+    public static class Saju {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofDays(7);
+        private Duration staleTtl = Duration.ofDays(30);
+    }
+
+    @Data
+    public static class Daily {
+        private boolean enabled = true;
+        private long maximumSizePerDay = 50_000;
+        private ZoneId zone = ZoneId.of("Asia/Seoul");
+        private int recentProfileSize = 20_000;
+        private Duration recentProfileTtl = Duration.ofDays(3);
+        private Pregeneration pregeneration = new Pregeneration();
+    }
+
+    /**
+     * 오늘의 운세 사전 생성 설정
+     * off-peak 구간(start-hour ~ end-hour, 자정을 넘길 수 있음) 동안 interval마다 1건씩 생성
+     */
+    @Data
+    public static class Pregeneration {
+        private boolean enabled = false;
+        private int startHour = 22;
+        private int endHour = 6;
+        private int peakStartHour = 7;
+        private Duration interval = Duration.ofSeconds(2);
+    }
+
+    /**
+     * 인스턴스 간 공유 L2 캐시(Redis) 설정
+     * 각 인스턴스의 Caffeine 캐시(L1)에 없을 때 조회하며, 무효화는 pub/sub 채널로 전파
+     */
+    @Data
+    public static class Redis {
+        private boolean enabled = false;
+        private String keyPrefix = "fortune";
+        private String invalidationChannel = "fortune:cache:invalidate";
+        private Duration sajuTtl = Duration.ofDays(30);
+        private Duration dailyTtl = Duration.ofDays(2);
+        private int compressionLevel = 6;
+    }
+}
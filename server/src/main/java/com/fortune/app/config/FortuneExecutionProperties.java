@@ -0,0 +1,28 @@
+package com.fortune.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 운세 요청 실행 모드 설정
+ */
+@Data
+@ConfigurationProperties(prefix = "fortune.execution")
+public class FortuneExecutionProperties {
+
+    /**
+     * BLOCKING: 서블릿 스레드에서 직접 처리
+     * ASYNC: 가상 스레드에서 처리하고 서블릿 스레드는 즉시 반환
+     */
+    private Mode mode = Mode.ASYNC;
+
+    /**
+     * ASYNC 모드에서 동시에 처리 중인 요청 수 상한 (초과 시 503)
+     */
+    private int maxInFlight = 2000;
+
+    public enum Mode {
+        BLOCKING,
+        ASYNC
+    }
+}
@@ -0,0 +1,23 @@
+package com.fortune.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청 로깅 설정 (비동기 appender 큐 크기는 logback-spring.xml에서 fortune.logging.async.queue-size로 읽음)
+ */
+@Data
+@ConfigurationProperties(prefix = "fortune.logging")
+public class FortuneLoggingProperties {
+
+    /**
+     * 프롬프트와 응답 본문을 기록할 요청 비율 (0.0 ~ 1.0, 0이면 기록하지 않음)
+     */
+    private double bodySampleRate = 0.0;
+
+    /**
+     * 로그의 프로필 식별값(HMAC) 키
+     * 비어 있으면 기동 시 임의로 생성하므로 같은 인스턴스 안에서만 같은 프로필끼리 연결 가능
+     */
+    private String profileKey = "";
+}
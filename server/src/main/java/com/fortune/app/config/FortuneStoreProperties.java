@@ -0,0 +1,36 @@
+package com.fortune.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 운세 결과 영구 저장소 설정
+ */
+@Data
+@ConfigurationProperties(prefix = "fortune.store")
+public class FortuneStoreProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 저장 대기열 크기 (가득 차면 저장을 건너뛰고 요청은 지연시키지 않음)
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * 한 번에 일괄 저장하는 최대 건수
+     */
+    private int batchSize = 200;
+
+    /**
+     * 대기열이 빌 때 다음 저장 건을 기다리는 최대 시간
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 시작 시 캐시로 불러올 최대 건수 (사주, 오늘의 운세 각각 최신순)
+     */
+    private int warmUpLimit = 10000;
+}
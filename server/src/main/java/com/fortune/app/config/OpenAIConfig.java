@@ -1,13 +1,35 @@
 package com.fortune.app.config;
 
+import com.fortune.app.support.AdaptiveConcurrencyLimiter;
+import com.fortune.app.support.OpenAIResponseErrorHandler;
+import com.fortune.app.support.OpenAIRetryPolicy;
+import com.fortune.app.support.RetryAfterBackOffPolicy;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.retry.NonTransientAiException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorNettyClientRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.retry.interceptor.RetryInterceptorBuilder;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * OpenAI ChatModel 설정
@@ -19,20 +41,73 @@ public class OpenAIConfig {
     @Value("${spring.ai.openai.api-key}")
     private String openAiApiKey;
     
+    @Value("${spring.ai.openai.base-url:https://api.openai.com}")
+    private String baseUrl;
+    
     @Value("${spring.ai.openai.chat.options.model:gpt-3.5-turbo}")
     private String model;
     
-    @Value("${spring.ai.openai.chat.options.max-tokens:2000}")
+    @Value("${spring.ai.openai.chat.options.max-tokens:1600}")
     private Integer maxTokens;
     
     @Value("${spring.ai.openai.chat.options.temperature:0.7}")
     private Double temperature;
 
+    /**
+     * OpenAI 전용 연결 풀 (reactor.netty.connection.provider.* 메트릭으로 사용량 노출)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAIConnectionProvider(OpenAIProperties properties) {
+        OpenAIProperties.Http http = properties.getHttp();
+        return ConnectionProvider.builder("openai")
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireMaxCount(http.getMaxPendingAcquires())
+                .pendingAcquireTimeout(http.getPendingAcquireTimeout())
+                .maxIdleTime(http.getMaxIdleTime())
+                .maxLifeTime(http.getMaxLifeTime())
+                .evictInBackground(http.getMaxIdleTime())
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * OpenAI HTTP 클라이언트
+     * https이면 ALPN으로 HTTP/2를 우선 사용하고, gzip 응답 압축과 연결/읽기 타임아웃을 적용
+     */
+    @Bean
+    public HttpClient openAIHttpClient(ConnectionProvider openAIConnectionProvider, OpenAIProperties properties) {
+        OpenAIProperties.Http http = properties.getHttp();
+        HttpClient httpClient = HttpClient.create(openAIConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(http.getReadTimeout())
+                .compress(http.isCompression())
+                .metrics(true, uri -> "/v1/chat/completions");
+
+        if (http.isHttp2() && baseUrl.startsWith("https")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+        return httpClient;
+    }
+
+    /**
+     * 동기 호출(RestClient)과 스트리밍(WebClient)이 같은 HTTP 클라이언트와 연결 풀을 사용
+     */
     @Bean
-    public OpenAiApi openAiApi() {
-        return new OpenAiApi(openAiApiKey);
+    public OpenAiApi openAiApi(HttpClient openAIHttpClient, OpenAIProperties properties) {
+        ReactorNettyClientRequestFactory requestFactory = new ReactorNettyClientRequestFactory(openAIHttpClient);
+        requestFactory.setExchangeTimeout(properties.getHttp().getTimeout());
+
+        return new OpenAiApi(baseUrl, openAiApiKey,
+                RestClient.builder().requestFactory(requestFactory),
+                WebClient.builder().clientConnector(new ReactorClientHttpConnector(openAIHttpClient)),
+                new OpenAIResponseErrorHandler());
     }
 
+    /**
+     * 재시도는 openAIRetryInterceptor 한 곳에서만 수행하도록 Spring AI 기본 RetryTemplate(10회, 지수 백오프) 대신 1회 시도만 사용
+     * (기본값이면 동시성 제한기 허가와 서킷 브레이커 호출 안에서 재시도가 중첩됨)
+     */
     @Bean
     public ChatModel chatModel(OpenAiApi openAiApi) {
         OpenAiChatOptions options = OpenAiChatOptions.builder()
@@ -41,6 +116,64 @@ public class OpenAIConfig {
                 .withTemperature(temperature)
                 .build();
                 
-        return new OpenAiChatModel(openAiApi, options);
+        return new OpenAiChatModel(openAiApi, options, null, RetryTemplate.builder().maxAttempts(1).build());
+    }
+
+    /**
+     * OpenAI 호출 재시도 인터셉터 (@Retryable(interceptor = "openAIRetryInterceptor"))
+     */
+    @Bean
+    public RetryOperationsInterceptor openAIRetryInterceptor(OpenAIProperties properties) {
+        OpenAIProperties.Retry retry = properties.getRetry();
+        return RetryInterceptorBuilder.stateless()
+                .retryPolicy(new OpenAIRetryPolicy(retry.getMaxAttempts(), retry.getMaxRetryAfter()))
+                .backOffPolicy(new RetryAfterBackOffPolicy(retry.getInitialDelay(), retry.getMultiplier(), retry.getMaxDelay()))
+                .build();
+    }
+
+    /**
+     * OpenAI 호출 동시성 제한기
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter openAIConcurrencyLimiter(OpenAIProperties properties, MeterRegistry meterRegistry) {
+        OpenAIProperties.Limiter limiter = properties.getLimiter();
+        AdaptiveConcurrencyLimiter concurrencyLimiter = limiter.isEnabled()
+                ? new AdaptiveConcurrencyLimiter(limiter.getInitialLimit(), limiter.getMinLimit(), limiter.getMaxLimit(),
+                        limiter.getBackoffRatio(), limiter.getLatencyThreshold(), limiter.getMaxQueueSize(), limiter.getMaxWait())
+                : AdaptiveConcurrencyLimiter.unlimited();
+
+        Gauge.builder("fortune.openai.limiter.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("OpenAI 호출 동시성 한도")
+                .register(meterRegistry);
+        Gauge.builder("fortune.openai.limiter.waiting", concurrencyLimiter, AdaptiveConcurrencyLimiter::getWaiting)
+                .description("동시성 한도로 대기 중인 호출 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("fortune.openai.limiter.rejected", concurrencyLimiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                .description("동시성 한도 초과로 거절된 호출 수")
+                .register(meterRegistry);
+
+        return concurrencyLimiter;
+    }
+
+    /**
+     * OpenAI 호출 서킷 브레이커 레지스트리 (운세 타입/모델별 인스턴스 생성)
+     */
+    @Bean
+    public CircuitBreakerRegistry openAICircuitBreakerRegistry(OpenAIProperties properties, MeterRegistry meterRegistry) {
+        OpenAIProperties.Breaker breaker = properties.getCircuitBreaker();
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(breaker.getFailureRateThreshold())
+                .slowCallRateThreshold(breaker.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(breaker.getSlowCallDuration())
+                .slidingWindowSize(breaker.getSlidingWindowSize())
+                .minimumNumberOfCalls(breaker.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(breaker.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(breaker.getPermittedCallsInHalfOpenState())
+                .ignoreExceptions(NonTransientAiException.class)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.fortune.app.config;
+
+import com.fortune.app.enumerate.FortuneType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * OpenAI 호출 제어 설정 (HTTP 연결, 동시성 제한, 재시도, 모델 라우팅, 헤지 요청)
+ */
+@Data
+@ConfigurationProperties(prefix = "fortune.openai")
+public class OpenAIProperties {
+
+    private Http http = new Http();
+    private Limiter limiter = new Limiter();
+    private Retry retry = new Retry();
+    private Breaker circuitBreaker = new Breaker();
+    private Map<FortuneType, Route> routes = new EnumMap<>(FortuneType.class);
+    private Hedge hedge = new Hedge();
+
+    /**
+     * OpenAI HTTP 연결 (동기 호출과 스트리밍이 같은 연결 풀을 공유)
+     * read-timeout은 응답 수신 중 읽기 간격의 상한, timeout은 동기 호출 1회(요청~응답 완료)의 상한
+     */
+    @Data
+    public static class Http {
+        private int maxConnections = 200;
+        private int maxPendingAcquires = 500;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private Duration timeout = Duration.ofSeconds(45);
+        private boolean http2 = true;
+        private boolean compression = true;
+    }
+
+    /**
+     * 적응형 동시성 제한 (AIMD)
+     * 정상 응답마다 한도를 조금씩 늘리고, 429 또는 지연 임계치 초과 시 비율만큼 줄임
+     */
+    @Data
+    public static class Limiter {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.7;
+        private Duration latencyThreshold = Duration.ofSeconds(30);
+        private int maxQueueSize = 100;
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+
+    /**
+     * 지터가 적용된 지수 백오프 재시도 (Retry-After 헤더가 있으면 우선)
+     */
+    @Data
+    public static class Retry {
+        private int maxAttempts = 3;
+        private Duration initialDelay = Duration.ofSeconds(1);
+        private double multiplier = 2.0;
+        private Duration maxDelay = Duration.ofSeconds(8);
+        private Duration maxRetryAfter = Duration.ofSeconds(10);
+    }
+
+    /**
+     * 운세 타입/모델별 서킷 브레이커
+     * 최근 호출 중 실패율 또는 지연 호출 비율이 임계치를 넘으면 일정 시간 호출을 차단
+     */
+    @Data
+    public static class Breaker {
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 80;
+        private Duration slowCallDuration = Duration.ofSeconds(20);
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 3;
+    }
+
+    /**
+     * 운세 타입별 모델/옵션 (지정하지 않은 값은 spring.ai.openai.chat.options 기본값 사용)
+     * hedge-model은 헤지 요청에 사용할 보조 모델 (없으면 같은 모델로 헤지)
+     */
+    @Data
+    public static class Route {
+        private String model;
+        private Integer maxTokens;
+        private Double temperature;
+        private String hedgeModel;
+    }
+
+    /**
+     * 헤지 요청
+     * 주 호출이 최근 첫 토큰 지연의 percentile 시점까지 첫 토큰을 받지 못하면 보조 모델로 한 번 더 호출하고,
+     * 먼저 완료된 결과를 사용하며 나머지 호출은 취소
+     * 표본이 min-samples 미만이면 initial-delay를, 계산된 지연은 min-delay 이상으로 사용
+     * JSON 응답은 보조 모델이 구조화 출력(json_schema)을 지원하지 않을 수 있어 헤지하지 않음
+     */
+    @Data
+    public static class Hedge {
+        private boolean enabled = false;
+        private double percentile = 0.95;
+        private int minSamples = 50;
+        private Duration initialDelay = Duration.ofSeconds(10);
+        private Duration minDelay = Duration.ofSeconds(2);
+    }
+}
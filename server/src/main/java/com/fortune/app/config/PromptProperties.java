@@ -0,0 +1,29 @@
+package com.fortune.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 프롬프트 템플릿 설정
+ */
+@Data
+@ConfigurationProperties(prefix = "fortune.prompts")
+public class PromptProperties {
+
+    /**
+     * 기본 프롬프트 위치 (애플리케이션 시작 시 한 번 로드)
+     */
+    private String location = "classpath*:/prompts/*.txt";
+
+    /**
+     * 재시작 없이 교체할 프롬프트 디렉토리 (비어 있으면 감시하지 않음)
+     */
+    private String externalDir;
+
+    /**
+     * 파일 변경 후 이 시간 동안 추가 변경이 없을 때 다시 로드 (저장 중 여러 번 발생하는 변경 이벤트를 한 번으로 합침)
+     */
+    private Duration reloadDebounce = Duration.ofMillis(500);
+}
@@ -0,0 +1,68 @@
+package com.fortune.app.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.filter.FortuneRateLimitFilter;
+import com.fortune.app.support.ClientRateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 운세 해석 요청의 클라이언트별 요청 한도 설정
+ */
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * 클라이언트별/운세 타입별 토큰 버킷 (rate-limit.enabled=false면 모든 타입 무제한)
+     */
+    @Bean
+    public ClientRateLimiter clientRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        Map<FortuneType, ClientRateLimiter.Budget> budgets = new EnumMap<>(FortuneType.class);
+        if (properties.isEnabled()) {
+            properties.getBudgets().forEach((fortuneType, budget) -> budgets.put(fortuneType,
+                    new ClientRateLimiter.Budget(budget.getRequestsPerMinute(), budget.getBurst())));
+        }
+        ClientRateLimiter clientRateLimiter = new ClientRateLimiter(budgets, properties.getMaxClients(),
+                properties.getIdleTimeout());
+
+        Gauge.builder("fortune.ratelimit.clients", clientRateLimiter, ClientRateLimiter::getClientCount)
+                .description("요청 한도를 추적 중인 클라이언트 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("fortune.ratelimit.requests", clientRateLimiter, ClientRateLimiter::getAllowedCount)
+                .description("클라이언트 요청 한도 검사 결과")
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        FunctionCounter.builder("fortune.ratelimit.requests", clientRateLimiter, ClientRateLimiter::getRejectedCount)
+                .description("클라이언트 요청 한도 검사 결과")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+
+        return clientRateLimiter;
+    }
+
+    /**
+     * FortuneController의 해석 요청 경로에만 적용 (저장된 결과 조회 GET /fortune/{id}는 제외)
+     */
+    @Bean
+    public FilterRegistrationBean<FortuneRateLimitFilter> fortuneRateLimitFilter(
+            ClientRateLimiter clientRateLimiter,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry, RateLimitProperties properties) {
+        FilterRegistrationBean<FortuneRateLimitFilter> registration = new FilterRegistrationBean<>(
+                new FortuneRateLimitFilter(clientRateLimiter, handlerExceptionResolver, objectMapper, meterRegistry,
+                        properties));
+        registration.addUrlPatterns("/fortune/analyze", "/fortune/analyze/*");
+        registration.setEnabled(properties.isEnabled());
+        return registration;
+    }
+}
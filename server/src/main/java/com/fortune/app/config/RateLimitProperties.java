@@ -0,0 +1,72 @@
+package com.fortune.app.config;
+
+import com.fortune.app.enumerate.FortuneType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 클라이언트별 요청 한도 설정 (운세 타입별 토큰 버킷)
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "fortune.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 클라이언트 식별에 사용할 API 키 헤더 (없거나 api-keys에 없는 키면 원격 IP로 식별)
+     */
+    private String apiKeyHeader = "X-API-Key";
+
+    /**
+     * 키별로 한도를 적용할 발급된 API 키 목록
+     * 검증하지 않은 키로 식별하면 요청마다 새 키를 보내 새 버킷을 받거나 max-clients를 채워 다른 클라이언트의 버킷을 밀어낼 수 있음
+     */
+    private Set<String> apiKeys = new HashSet<>();
+
+    /**
+     * 추적할 최대 클라이언트 수 (초과 시 오래 사용하지 않은 클라이언트부터 제거)
+     */
+    private int maxClients = 100_000;
+
+    /**
+     * 이 시간 동안 요청이 없는 클라이언트의 버킷 제거 (가장 긴 버킷 충전 시간보다 길어야 함)
+     */
+    private Duration idleTimeout = Duration.ofMinutes(30);
+
+    /**
+     * 요청 한도 계산을 위해 미리 읽는 본문의 최대 크기 (초과하거나 길이를 모르는 본문이 이보다 길면 413)
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(64);
+
+    /**
+     * 운세 타입별 한도 (지정하지 않은 타입은 제한하지 않음)
+     */
+    private Map<FortuneType, @Valid Budget> budgets = new EnumMap<>(FortuneType.class);
+
+    @Data
+    public static class Budget {
+        /**
+         * 분당 허용 요청 수 (지속 속도)
+         */
+        @Positive
+        private double requestsPerMinute = 10;
+
+        /**
+         * 한 번에 몰아서 허용하는 최대 요청 수 (버킷 크기, 일괄 요청의 타입별 건수도 이 값을 넘을 수 없음)
+         */
+        @Positive
+        private int burst = 10;
+    }
+}
@@ -0,0 +1,38 @@
+package com.fortune.app.controller;
+
+import com.fortune.app.cache.DailyFortuneCache;
+import com.fortune.app.cache.SajuFortuneCache;
+import com.fortune.app.dto.CacheStatsResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache Admin API", description = "운세 결과 캐시 관리 API")
+public class CacheAdminController {
+
+    private final SajuFortuneCache sajuFortuneCache;
+    private final DailyFortuneCache dailyFortuneCache;
+
+    @GetMapping
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(List.of(sajuFortuneCache.stats(), dailyFortuneCache.stats()));
+    }
+
+    @DeleteMapping("/saju")
+    public ResponseEntity<Void> invalidateSajuCache() {
+        sajuFortuneCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/daily")
+    public ResponseEntity<Void> invalidateDailyCache() {
+        dailyFortuneCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,14 +1,39 @@
 package com.fortune.app.controller;
 
+import com.fortune.app.dto.AnalyzeFortuneBatchRequest;
 import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.dto.ErrorResponse;
+import com.fortune.app.dto.FortuneBatchResponse;
 import com.fortune.app.dto.FortuneResponse;
+import com.fortune.app.dto.StructuredFortuneResponse;
+import com.fortune.app.exception.ServiceOverloadedException;
+import com.fortune.app.service.FortuneBatchService;
+import com.fortune.app.service.FortuneLookupService;
+import com.fortune.app.service.FortuneRequestExecutor;
 import com.fortune.app.service.FortuneService;
+import com.fortune.app.service.StructuredFortuneService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 @RequestMapping("/fortune")
@@ -18,9 +43,170 @@ import org.springframework.web.bind.annotation.*;
 public class FortuneController {
 
     private final FortuneService fortuneService;
+    private final FortuneBatchService fortuneBatchService;
+    private final FortuneRequestExecutor fortuneRequestExecutor;
+    private final StructuredFortuneService structuredFortuneService;
+    private final FortuneLookupService fortuneLookupService;
+    
+    @Value("${fortune.stream.timeout:PT3M}")
+    private Duration streamTimeout;
+    
+    @Value("${fortune.stream.prefetch:32}")
+    private int streamPrefetch;
     
     @PostMapping("/analyze")
-    public ResponseEntity<FortuneResponse> analyzeFortune(@Valid @RequestBody AnalyzeFortuneRequest request) {
-        return ResponseEntity.ok(fortuneService.analyzeFortune(request));
+    public CompletableFuture<ResponseEntity<FortuneResponse>> analyzeFortune(@Valid @RequestBody AnalyzeFortuneRequest request) {
+        return fortuneRequestExecutor.submit(() -> ResponseEntity.ok(fortuneService.analyzeFortune(request)));
+    }
+    
+    /**
+     * 저장된 운세 결과 조회 (모델을 호출하지 않음)
+     * 결과의 유효 기간만큼 캐시 가능하며, If-None-Match가 ETag와 일치하면 304로 응답
+     */
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<FortuneResponse>> getFortune(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return fortuneRequestExecutor.submit(() -> {
+            FortuneLookupService.StoredFortune stored = fortuneLookupService.find(id);
+            String etag = "\"" + stored.etag() + "\"";
+            CacheControl cacheControl = stored.maxAge().isZero()
+                    ? CacheControl.noCache().cachePublic()
+                    : CacheControl.maxAge(stored.maxAge()).cachePublic();
+            if (matchesEtag(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+            }
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(stored.response());
+        });
+    }
+    
+    /**
+     * 운세 해석 결과를 섹션별 JSON으로 반환
+     * sections 지정 시 해당 섹션만 반환 (예: ?sections=summary,score)
+     */
+    @PostMapping("/analyze/structured")
+    public CompletableFuture<ResponseEntity<StructuredFortuneResponse>> analyzeFortuneStructured(
+            @Valid @RequestBody AnalyzeFortuneRequest request,
+            @RequestParam(required = false) Set<String> sections) {
+        return fortuneRequestExecutor.submit(
+                () -> ResponseEntity.ok(structuredFortuneService.analyze(request, sections)));
+    }
+    
+    /**
+     * 여러 프로필 일괄 해석 (결과는 요청 순서대로 항목별 성공/실패로 반환)
+     */
+    @PostMapping("/analyze/batch")
+    public CompletableFuture<ResponseEntity<FortuneBatchResponse>> analyzeFortuneBatch(
+            @Valid @RequestBody AnalyzeFortuneBatchRequest request) {
+        return fortuneRequestExecutor.submit(
+                () -> ResponseEntity.ok(fortuneBatchService.analyzeBatch(request.getRequests())));
+    }
+    
+    /**
+     * 운세 해석 결과를 SSE로 스트리밍
+     * token 이벤트로 본문 조각을, done 이벤트로 FortuneResponse 메타데이터를 전달 (대체 결과면 degraded=true)
+     * 입력 오류(400)와 과부하/서비스 오류(503)는 error 이벤트로 전달 (동시 처리 상한은 일반 요청과 공유)
+     */
+    @PostMapping(value = "/analyze/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter analyzeFortuneStream(@Valid @RequestBody AnalyzeFortuneRequest request) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        String fortuneTypeName = request.getFortuneType().getValue();
+        
+        // 응답 전송은 소켓 쓰기로 블로킹되므로 별도 스레드에서 처리하고, prefetch 만큼만 업스트림에 요청 (backpressure)
+        AtomicBoolean degraded = new AtomicBoolean();
+        Disposable subscription = fortuneRequestExecutor.stream(
+                        () -> fortuneService.streamFortune(request, () -> degraded.set(true)))
+                .publishOn(Schedulers.boundedElastic(), streamPrefetch)
+                .subscribe(
+                        chunk -> send(emitter, SseEmitter.event()
+                                .name("token")
+                                .data(Map.of("content", chunk), MediaType.APPLICATION_JSON)),
+                        error -> handleStreamError(emitter, error),
+                        () -> {
+                            FortuneResponse metadata = degraded.get()
+                                    ? FortuneResponse.degraded(fortuneTypeName, null)
+                                    : FortuneResponse.of(fortuneTypeName, null);
+                            if (!degraded.get()) {
+                                metadata.setId(fortuneService.resultId(request));
+                            }
+                            send(emitter, SseEmitter.event()
+                                    .name("done")
+                                    .data(metadata, MediaType.APPLICATION_JSON));
+                            emitter.complete();
+                        });
+        
+        // 클라이언트 연결 종료, 타임아웃 시 업스트림 호출 취소
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+        
+        return emitter;
+    }
+    
+    /**
+     * If-None-Match는 약한 비교 (W/ 접두어 무시, * 는 항상 일치)
+     */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 전송 실패(클라이언트 연결 종료)는 예외로 전파하여 구독을 취소
+     */
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void handleStreamError(SseEmitter emitter, Throwable error) {
+        if (error instanceof UncheckedIOException) {
+            log.debug("클라이언트 연결 종료로 스트리밍 중단");
+            emitter.completeWithError(error);
+            return;
+        }
+        
+        if (error instanceof IllegalArgumentException) {
+            log.warn("운세 해석 스트리밍 요청 검증 실패: {}", error.getMessage());
+        } else {
+            log.error("운세 해석 스트리밍 중 오류 발생: {}", error.getMessage(), error);
+        }
+        try {
+            ErrorResponse errorResponse = error instanceof IllegalArgumentException
+                    ? ErrorResponse.of(
+                            HttpStatus.BAD_REQUEST.value(),
+                            "Invalid Argument",
+                            error.getMessage(),
+                            "/fortune/analyze/stream")
+                    : error instanceof ServiceOverloadedException
+                    ? ErrorResponse.of(
+                            HttpStatus.SERVICE_UNAVAILABLE.value(),
+                            "Service Overloaded",
+                            error.getMessage(),
+                            "/fortune/analyze/stream")
+                    : ErrorResponse.of(
+                            HttpStatus.SERVICE_UNAVAILABLE.value(),
+                            "Fortune Service Error",
+                            "사주 해석 서비스에 일시적인 문제가 발생했습니다. 잠시 후 다시 시도해주세요.",
+                            "/fortune/analyze/stream");
+            emitter.send(SseEmitter.event().name("error").data(errorResponse, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.fortune.app.controller;
+
+import com.fortune.app.dto.PromptVersionResponse;
+import com.fortune.app.prompt.PromptTemplateRegistry;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/prompts")
+@RequiredArgsConstructor
+@Tag(name = "Prompt Admin API", description = "프롬프트 템플릿 버전 관리 API")
+public class PromptAdminController {
+
+    private final PromptTemplateRegistry promptTemplateRegistry;
+
+    @GetMapping
+    public ResponseEntity<List<PromptVersionResponse>> getPrompts() {
+        return ResponseEntity.ok(promptTemplateRegistry.getAll().stream()
+                .map(PromptVersionResponse::of)
+                .toList());
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<List<PromptVersionResponse>> reloadPrompts() {
+        promptTemplateRegistry.reloadExternal();
+        return getPrompts();
+    }
+}
@@ -0,0 +1,27 @@
+package com.fortune.app.controller;
+
+import com.fortune.app.support.ClientRateLimiter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/rate-limit")
+@RequiredArgsConstructor
+@Tag(name = "Rate Limit Admin API", description = "클라이언트별 요청 한도 현황 API")
+public class RateLimitAdminController {
+
+    private final ClientRateLimiter clientRateLimiter;
+
+    /**
+     * 거절 건수가 많은 클라이언트 목록 (API 키는 해시, 그 외는 IP)
+     */
+    @GetMapping("/rejections")
+    public ResponseEntity<List<ClientRateLimiter.ClientRejections>> getTopRejected(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(clientRateLimiter.topRejected(limit));
+    }
+}
@@ -0,0 +1,16 @@
+package com.fortune.app.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AnalyzeFortuneBatchRequest {
+    
+    @NotEmpty(message = "요청 목록은 비어 있을 수 없습니다")
+    @Size(max = 20, message = "한 번에 최대 20건까지 요청할 수 있습니다")
+    private List<@Valid AnalyzeFortuneRequest> requests;
+}
@@ -1,7 +1,9 @@
 package com.fortune.app.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fortune.app.enumerate.FortuneType;
 import com.fortune.app.enumerate.Gender;
+import com.fortune.app.enumerate.OutputFormat;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -23,4 +25,10 @@ public class AnalyzeFortuneRequest {
     
     @NotNull(message = "운세 타입은 필수입니다")
     private FortuneType fortuneType;
+    
+    /**
+     * 결과 형식 (요청 본문이 아닌 엔드포인트에서 지정)
+     */
+    @JsonIgnore
+    private OutputFormat outputFormat = OutputFormat.TEXT;
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.fortune.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 구조화된 오늘의 운세 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyFortuneResult {
+
+    /** 오늘의 운세 지수 (1~5) */
+    private int score;
+    private List<String> keywords;
+    private String summary;
+    private String work;
+    private String money;
+    private String relationship;
+    private String health;
+    private String luckyTime;
+    private String luckyDirection;
+    private String luckyColor;
+    private List<Integer> luckyNumbers;
+    private String advice;
+}
@@ -0,0 +1,59 @@
+package com.fortune.app.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FortuneBatchResponse {
+    
+    private List<Item> results;
+    private int successCount;
+    private int failureCount;
+    
+    /**
+     * 요청 순서와 동일한 순서의 개별 결과 (성공 시 result, 실패 시 error)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        
+        private int index;
+        private boolean success;
+        private FortuneResponse result;
+        private ErrorResponse error;
+        
+        public static Item success(int index, FortuneResponse result) {
+            return Item.builder()
+                    .index(index)
+                    .success(true)
+                    .result(result)
+                    .build();
+        }
+        
+        public static Item failure(int index, ErrorResponse error) {
+            return Item.builder()
+                    .index(index)
+                    .success(false)
+                    .error(error)
+                    .build();
+        }
+    }
+    
+    public static FortuneBatchResponse of(List<Item> results) {
+        int successCount = (int) results.stream().filter(Item::isSuccess).count();
+        return FortuneBatchResponse.builder()
+                .results(results)
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .build();
+    }
+}
@@ -13,9 +13,18 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class FortuneResponse {
     
+    /**
+     * GET /fortune/{id}로 다시 조회할 수 있는 결과 ID (대체 결과이거나 저장소 비활성화 시 null)
+     */
+    private String id;
     private String fortuneType;
     private String result;
     private LocalDateTime createdAt;
+    
+    /**
+     * OpenAI 장애로 대체(간이/이전) 결과가 반환된 경우 true
+     */
+    private boolean degraded;
 
     public static FortuneResponse of(String fortuneTypeName, String fortuneResult) {
         return FortuneResponse.builder()
@@ -24,4 +33,25 @@ public class FortuneResponse {
                 .createdAt(LocalDateTime.now())
                 .build();
     }
+
+    /**
+     * 저장된 결과 (생성 시각은 최초 생성 시각)
+     */
+    public static FortuneResponse stored(String id, String fortuneTypeName, String fortuneResult, LocalDateTime createdAt) {
+        return FortuneResponse.builder()
+                .id(id)
+                .fortuneType(fortuneTypeName)
+                .result(fortuneResult)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    public static FortuneResponse degraded(String fortuneTypeName, String fortuneResult) {
+        return FortuneResponse.builder()
+                .fortuneType(fortuneTypeName)
+                .result(fortuneResult)
+                .createdAt(LocalDateTime.now())
+                .degraded(true)
+                .build();
+    }
 }
\ No newline at end of file
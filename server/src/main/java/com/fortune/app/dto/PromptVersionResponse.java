@@ -0,0 +1,30 @@
+package com.fortune.app.dto;
+
+import com.fortune.app.prompt.CompiledPrompt;
+import lombok.Data;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PromptVersionResponse {
+
+    private String name;
+    private String version;
+    private String source;
+    private LocalDateTime loadedAt;
+
+    public static PromptVersionResponse of(CompiledPrompt prompt) {
+        return PromptVersionResponse.builder()
+                .name(prompt.getName())
+                .version(prompt.getVersion())
+                .source(prompt.getSource())
+                .loadedAt(prompt.getLoadedAt())
+                .build();
+    }
+}
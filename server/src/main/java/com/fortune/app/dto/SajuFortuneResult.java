@@ -0,0 +1,50 @@
+package com.fortune.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 구조화된 사주 해석 결과
+ * pillars, elements는 만세력 계산값으로 채우고 나머지 섹션은 모델 응답을 사용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SajuFortuneResult {
+
+    private Pillars pillars;
+    private Elements elements;
+
+    /** 오행 균형, 용신/희신, 대운 흐름 등 기본 분석 */
+    private String basicAnalysis;
+    private String personality;
+    private String health;
+    private String careerAndWealth;
+    private String relationship;
+    private String yearlyOutlook;
+    private String luckAdvice;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pillars {
+        private String year;
+        private String month;
+        private String day;
+        private String hour;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Elements {
+        private int wood;
+        private int fire;
+        private int earth;
+        private int metal;
+        private int water;
+    }
+}
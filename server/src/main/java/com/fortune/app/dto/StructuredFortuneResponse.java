@@ -0,0 +1,29 @@
+package com.fortune.app.dto;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StructuredFortuneResponse {
+
+    /**
+     * GET /fortune/{id}로 다시 조회할 수 있는 결과 ID (JSON 문자열 형태의 전체 결과)
+     */
+    private String id;
+    private String fortuneType;
+
+    /**
+     * SajuFortuneResult 또는 DailyFortuneResult (sections 지정 시 해당 필드만 포함)
+     */
+    private ObjectNode result;
+    private LocalDateTime createdAt;
+    private boolean degraded;
+}
@@ -0,0 +1,35 @@
+package com.fortune.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 구조화된 타로 결과
+ * 카드와 의미는 로컬 덱에서 결정되고, synthesis(종합 해석)만 모델 응답 (생략되면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarotFortuneResult {
+
+    private String spread;
+    private String date;
+    private List<Card> cards;
+    private String synthesis;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Card {
+        private String position;
+        private String name;
+        private String englishName;
+        private boolean reversed;
+        private List<String> keywords;
+    }
+}
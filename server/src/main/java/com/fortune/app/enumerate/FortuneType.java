@@ -6,9 +6,36 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum FortuneType {
-    SAJU("사주"),
-    TAROT("타로"),
-    DAILY("오늘의 운세");
+    SAJU("사주", "saju-prompt"),
+    TAROT("타로", "tarot-prompt"),
+    DAILY("오늘의 운세", "daily-fortune-prompt");
 
     private final String value;
-}
\ No newline at end of file
+    private final String promptName;
+
+    /**
+     * 결과가 날짜 단위로만 유효한 운세 타입인지 여부 (오늘의 운세, 오늘의 타로)
+     */
+    public boolean isDated() {
+        return this == DAILY || this == TAROT;
+    }
+
+    /**
+     * 결과 형식에 해당하는 프롬프트 템플릿 이름
+     */
+    public String getPromptName(OutputFormat outputFormat) {
+        return promptName + outputFormat.getPromptSuffix();
+    }
+
+    /**
+     * 이 운세 타입의 (어떤 형식이든) 프롬프트인지 여부
+     */
+    public boolean usesPrompt(String name) {
+        for (OutputFormat outputFormat : OutputFormat.values()) {
+            if (getPromptName(outputFormat).equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,17 @@
+package com.fortune.app.enumerate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 운세 결과 형식 (TEXT: 마크다운 본문, JSON: 섹션별 구조화 결과)
+ * 형식마다 별도의 프롬프트 템플릿(이름 + promptSuffix)을 사용
+ */
+@Getter
+@AllArgsConstructor
+public enum OutputFormat {
+    TEXT(""),
+    JSON("-json");
+
+    private final String promptSuffix;
+}
@@ -0,0 +1,48 @@
+package com.fortune.app.enumerate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 십이시진 (2시간 단위 전통 시간 구분)
+ */
+@Getter
+@AllArgsConstructor
+public enum SiJin {
+    JA("자시", "子"),
+    CHUK("축시", "丑"),
+    IN("인시", "寅"),
+    MYO("묘시", "卯"),
+    JIN("진시", "辰"),
+    SA("사시", "巳"),
+    O("오시", "午"),
+    MI("미시", "未"),
+    SIN("신시", "申"),
+    YU("유시", "酉"),
+    SUL("술시", "戌"),
+    HAE("해시", "亥");
+
+    private final String description;
+    private final String hanja;
+
+    /**
+     * HH:mm 형식의 생시를 시진으로 변환 (자시: 23:00 ~ 00:59)
+     * 생시를 알 수 없거나 형식이 올바르지 않으면 null 반환
+     */
+    public static SiJin from(String birthTime) {
+        if (birthTime == null || birthTime.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            String hourPart = birthTime.contains(":") ? birthTime.split(":")[0] : birthTime;
+            int hour = Integer.parseInt(hourPart.trim());
+            if (hour < 0 || hour > 23) {
+                return null;
+            }
+            return values()[((hour + 1) / 2) % 12];
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
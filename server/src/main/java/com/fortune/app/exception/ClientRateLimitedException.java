@@ -0,0 +1,20 @@
+package com.fortune.app.exception;
+
+import lombok.Getter;
+
+/**
+ * 클라이언트별 요청 한도를 초과한 경우의 예외
+ */
+@Getter
+public class ClientRateLimitedException extends RuntimeException {
+    
+    /**
+     * 다시 요청할 수 있을 때까지의 대기 시간(초)
+     */
+    private final long retryAfterSeconds;
+    
+    public ClientRateLimitedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.fortune.app.exception;
+
+/**
+ * ID에 해당하는 운세 결과가 없는 경우의 예외
+ */
+public class FortuneNotFoundException extends RuntimeException {
+    
+    public FortuneNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,9 @@
 package com.fortune.app.exception;
 
 import com.fortune.app.dto.ErrorResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -63,6 +65,136 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
     
+    /**
+     * ID에 해당하는 운세 결과가 없는 경우 404로 응답
+     */
+    @ExceptionHandler(FortuneNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleFortuneNotFoundException(
+            FortuneNotFoundException ex, WebRequest request) {
+        
+        log.debug("Fortune not found: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.NOT_FOUND.value(),
+                "Fortune Not Found",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+    
+    /**
+     * 동시 요청 수 초과 예외 처리
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(
+            ServiceOverloadedException ex, WebRequest request) {
+        
+        log.warn("Service overloaded: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Overloaded",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+        if (ex.getRetryAfterSeconds() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        }
+        return response.body(errorResponse);
+    }
+    
+    /**
+     * 클라이언트별 요청 한도 초과 (FortuneRateLimitFilter)
+     */
+    @ExceptionHandler(ClientRateLimitedException.class)
+    public ResponseEntity<ErrorResponse> handleClientRateLimitedException(
+            ClientRateLimitedException ex, WebRequest request) {
+        
+        log.debug("Client rate limited: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+    
+    /**
+     * 요청 본문 크기 초과 (FortuneRateLimitFilter)
+     */
+    @ExceptionHandler(RequestBodyTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleRequestBodyTooLargeException(
+            RequestBodyTooLargeException ex, WebRequest request) {
+        
+        log.debug("Request body too large: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                "Payload Too Large",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(errorResponse);
+    }
+    
+    /**
+     * OpenAI 서킷 오픈으로 호출이 차단된 경우 (대체 결과를 만들 수 없을 때)
+     */
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<ErrorResponse> handleCallNotPermittedException(
+            CallNotPermittedException ex, WebRequest request) {
+        
+        log.warn("Circuit open: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Fortune Service Unavailable",
+                "사주 해석 서비스에 일시적인 문제가 발생했습니다. 잠시 후 다시 시도해주세요.",
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+    
+    /**
+     * OpenAI API 요청 한도 초과(429)로 재시도가 모두 실패한 경우 429로 응답
+     */
+    @ExceptionHandler(OpenAIException.class)
+    public ResponseEntity<ErrorResponse> handleOpenAIException(
+            OpenAIException ex, WebRequest request) {
+        
+        OpenAIRateLimitException rateLimitException = OpenAIRateLimitException.findIn(ex);
+        if (rateLimitException == null) {
+            return handleRuntimeException(ex, request);
+        }
+        
+        log.warn("OpenAI API rate limited: {}", rateLimitException.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+        if (rateLimitException.getRetryAfter() != null) {
+            response.header(HttpHeaders.RETRY_AFTER,
+                    String.valueOf(Math.max(1, rateLimitException.getRetryAfter().toSeconds())));
+        }
+        return response.body(errorResponse);
+    }
+    
     /**
      * OpenAI API 관련 예외 처리
      */
@@ -0,0 +1,34 @@
+package com.fortune.app.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * OpenAI API 요청 한도 초과(429) 예외
+ */
+@Getter
+public class OpenAIRateLimitException extends RuntimeException {
+    
+    /**
+     * 업스트림 Retry-After 헤더 값, 없으면 null
+     */
+    private final Duration retryAfter;
+    
+    public OpenAIRateLimitException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+    
+    /**
+     * 예외 체인에서 요청 한도 초과 예외를 찾음
+     */
+    public static OpenAIRateLimitException findIn(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof OpenAIRateLimitException rateLimitException) {
+                return rateLimitException;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.fortune.app.exception;
+
+/**
+ * 프롬프트 템플릿 렌더링 오류 (서버 측 템플릿 문제이므로 재시도하지 않고 500으로 응답)
+ */
+public class PromptTemplateException extends IllegalStateException {
+    
+    public PromptTemplateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fortune.app.exception;
+
+/**
+ * 요청 본문이 허용 크기를 초과한 경우의 예외
+ */
+public class RequestBodyTooLargeException extends RuntimeException {
+    
+    public RequestBodyTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.fortune.app.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 가능한 동시 요청 수를 초과한 경우의 예외
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    
+    /**
+     * 클라이언트에 전달할 재시도 대기 시간(초), 없으면 null
+     */
+    private final Long retryAfterSeconds;
+    
+    public ServiceOverloadedException(String message) {
+        this(message, null);
+    }
+    
+    public ServiceOverloadedException(String message, Long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
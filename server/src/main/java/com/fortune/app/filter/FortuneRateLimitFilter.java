@@ -0,0 +1,273 @@
+package com.fortune.app.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortune.app.config.RateLimitProperties;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.exception.ClientRateLimitedException;
+import com.fortune.app.exception.RequestBodyTooLargeException;
+import com.fortune.app.support.ClientRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 운세 해석 요청(POST /fortune/analyze/**)의 클라이언트별 요청 한도 필터
+ * 본문의 fortuneType(일괄 요청은 항목별)으로 타입별 버킷에서 차감하고, 본문은 그대로 컨트롤러에 다시 전달
+ * 클라이언트는 등록된 API 키로, 키가 없거나 등록되지 않은 키면 원격 IP로 식별
+ * 한도 초과 시 ClientRateLimitedException을 GlobalExceptionHandler로 넘겨 429 + Retry-After로 응답
+ * 타입별 건수가 버킷 크기를 넘는 일괄 요청은 기다려도 허용되지 않으므로 400, 본문이 max-body-size를 넘으면 413으로 응답
+ * 본문을 읽을 수 없거나 타입이 없으면 차감하지 않고 통과 (컨트롤러의 입력 검증에서 400)
+ */
+@Slf4j
+public class FortuneRateLimitFilter extends OncePerRequestFilter {
+
+    private final ClientRateLimiter clientRateLimiter;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String apiKeyHeader;
+    private final Set<String> apiKeyDigests;
+    private final int maxBodyBytes;
+
+    public FortuneRateLimitFilter(ClientRateLimiter clientRateLimiter, HandlerExceptionResolver handlerExceptionResolver,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry, RateLimitProperties properties) {
+        this.clientRateLimiter = clientRateLimiter;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.apiKeyHeader = properties.getApiKeyHeader();
+        this.apiKeyDigests = properties.getApiKeys().stream()
+                .filter(apiKey -> !apiKey.isBlank())
+                .map(FortuneRateLimitFilter::digest)
+                .collect(Collectors.toUnmodifiableSet());
+        this.maxBodyBytes = (int) Math.min(properties.getMaxBodySize().toBytes(), Integer.MAX_VALUE - 1);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        byte[] body = readBody(request);
+        if (body == null) {
+            reject(request, response, new RequestBodyTooLargeException(
+                    "요청 본문이 너무 큽니다. 최대 " + maxBodyBytes + "바이트까지 요청할 수 있습니다."));
+            return;
+        }
+        Map<FortuneType, Integer> costs = costs(body);
+
+        for (Map.Entry<FortuneType, Integer> cost : costs.entrySet()) {
+            int maxCost = clientRateLimiter.maxCost(cost.getKey());
+            if (cost.getValue() > maxCost) {
+                reject(request, response, new IllegalArgumentException(cost.getKey().getValue()
+                        + " 요청은 한 번에 최대 " + maxCost + "건까지 보낼 수 있습니다. (요청: " + cost.getValue() + "건)"));
+                return;
+            }
+        }
+
+        if (!costs.isEmpty()) {
+            String apiKeyDigest = apiKeyDigest(request);
+            boolean hasApiKey = apiKeyDigest != null;
+            String client = hasApiKey ? "key:" + apiKeyDigest.substring(0, 16) : "ip:" + request.getRemoteAddr();
+            long retryAfterNanos = clientRateLimiter.tryAcquire(client, costs);
+            if (retryAfterNanos > 0) {
+                long retryAfterSeconds = TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos - 1) + 1;
+                costs.keySet().forEach(fortuneType -> rejectedCounter(fortuneType, hasApiKey).increment());
+                log.debug("클라이언트 요청 한도 초과 - 클라이언트: {}, 비용: {}, 재시도: {}초", client, costs, retryAfterSeconds);
+                reject(request, response, new ClientRateLimitedException(
+                        "요청 한도를 초과했습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.", retryAfterSeconds));
+                return;
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    /**
+     * 본문을 max-body-size까지만 읽음 (초과하면 null)
+     * Content-Length가 상한을 넘으면 읽지 않고, 길이를 모르는(chunked) 본문은 상한 + 1바이트까지만 읽어서 판단
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        return body.length > maxBodyBytes ? null : body;
+    }
+
+    /**
+     * 필터에서 던진 예외는 @RestControllerAdvice에 닿지 않으므로 HandlerExceptionResolver로 직접 처리
+     */
+    private void reject(HttpServletRequest request, HttpServletResponse response, RuntimeException ex)
+            throws IOException {
+        if (handlerExceptionResolver.resolveException(request, response, null, ex) != null) {
+            return;
+        }
+        if (ex instanceof ClientRateLimitedException rateLimited) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimited.getRetryAfterSeconds()));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), ex.getMessage());
+        } else if (ex instanceof RequestBodyTooLargeException) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value(), ex.getMessage());
+        } else {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        }
+    }
+
+    /**
+     * 본문의 운세 타입별 요청 건수 (단건은 fortuneType, 일괄 요청은 requests[].fortuneType)
+     */
+    private Map<FortuneType, Integer> costs(byte[] body) {
+        Map<FortuneType, Integer> costs = new EnumMap<>(FortuneType.class);
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            if (root == null) {
+                return costs;
+            }
+            if (root.has("requests")) {
+                root.get("requests").forEach(item -> addCost(costs, item));
+            } else {
+                addCost(costs, root);
+            }
+        } catch (IOException e) {
+            // 잘못된 본문은 컨트롤러에서 400으로 처리
+        }
+        return costs;
+    }
+
+    private static void addCost(Map<FortuneType, Integer> costs, JsonNode request) {
+        String value = request.path("fortuneType").asText();
+        for (FortuneType fortuneType : FortuneType.values()) {
+            if (fortuneType.name().equals(value)) {
+                costs.merge(fortuneType, 1, Integer::sum);
+                return;
+            }
+        }
+    }
+
+    private Counter rejectedCounter(FortuneType fortuneType, boolean apiKey) {
+        return Counter.builder("fortune.ratelimit.rejected")
+                .description("클라이언트 요청 한도 초과로 거절된 요청 수 (클라이언트별 건수는 /admin/rate-limit/rejections)")
+                .tag("type", fortuneType.name())
+                .tag("client.kind", apiKey ? "api-key" : "ip")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 등록된 API 키의 SHA-256 (헤더가 없거나 등록되지 않은 키면 null)
+     * 클라이언트는 앞 8바이트로 식별해서 API 키 원문은 메모리와 로그에 남기지 않음
+     */
+    private String apiKeyDigest(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        if (apiKey == null || apiKey.isBlank() || apiKeyDigests.isEmpty()) {
+            return null;
+        }
+        String digest = digest(apiKey);
+        return apiKeyDigests.contains(digest) ? digest : null;
+    }
+
+    private static String digest(String apiKey) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 미리 읽은 본문을 다시 읽을 수 있도록 감싼 요청
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문이 이미 메모리에 있으므로 등록 즉시 읽기 가능과 읽기 완료를 차례로 알림
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
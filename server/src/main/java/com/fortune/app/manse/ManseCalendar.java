@@ -0,0 +1,151 @@
+package com.fortune.app.manse;
+
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.enumerate.SiJin;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 만세력 계산기
+ * 절기(12절) 시각을 클래스 로딩 시 1900~2100년 테이블로 미리 계산해 두고,
+ * 년주·월주·일주·시주와 오행 분포를 조회만으로 결정
+ *
+ * - 년주: 입춘 기준, 월주: 절입 시각 기준 (년상기월법)
+ * - 일주: 자정 기준 (자시 출생도 같은 날짜의 일주 사용), 시주: 일상기시법
+ * - 야자시(23:00~23:59) 출생은 일주는 그대로 두고 시간만 다음 날 일간 기준 자시로 정함 (00시대 조자시와 구분)
+ * - 절기 시각은 태양 황경 근사식(오차 약 10분 이내)으로 계산
+ */
+@Component
+public class ManseCalendar {
+
+    public static final int MIN_YEAR = 1900;
+    public static final int MAX_YEAR = 2100;
+
+    private static final ZoneId BIRTH_ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalTime UNKNOWN_BIRTH_TIME = LocalTime.NOON;
+
+    /** 이 시각 이후의 자시(야자시)는 다음 날 일간으로 시간을 정함 */
+    private static final int LATE_JA_HOUR = 23;
+
+    /** 소한부터 대설까지 12절 (절기 순번 j의 황경 = 285 + 30j) */
+    private static final int JEOL_PER_YEAR = 12;
+    private static final int IPCHUN = 1;
+
+    /** 1899년 대설부터 필요하므로 MIN_YEAR - 1 부터 저장 */
+    private static final int TABLE_FIRST_YEAR = MIN_YEAR - 1;
+    private static final long[] JEOL_EPOCH_SECONDS = buildJeolTable();
+
+    /** 1970-01-01(신사일)의 육십갑자 순번 */
+    private static final int EPOCH_DAY_CYCLE_OFFSET = 17;
+
+    public SajuPillars calculate(AnalyzeFortuneRequest request) {
+        return calculate(LocalDate.parse(request.getBirthDate()), request.getBirthTime());
+    }
+
+    public SajuPillars calculate(LocalDate birthDate, String birthTime) {
+        return pillarsOf(birthDate, birthTime);
+    }
+
+    /**
+     * 생년월일(양력)과 HH:mm 형식의 생시로 사주 팔자 계산
+     * 빈을 주입받지 않는 곳(캐시 키 생성)에서도 쓸 수 있도록 정적 메서드로 제공
+     */
+    public static SajuPillars pillarsOf(LocalDate birthDate, String birthTime) {
+        int year = birthDate.getYear();
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new IllegalArgumentException("만세력은 " + MIN_YEAR + "~" + MAX_YEAR + "년 출생자만 계산할 수 있습니다.");
+        }
+
+        SiJin siJin = SiJin.from(birthTime);
+        LocalTime time = siJin != null ? parseTime(birthTime) : UNKNOWN_BIRTH_TIME;
+        long birthEpochSecond = LocalDateTime.of(birthDate, time).atZone(BIRTH_ZONE).toEpochSecond();
+
+        // 년주: 입춘 이전 출생은 전년도
+        int sajuYear = birthEpochSecond < jeolEpochSecond(year, IPCHUN) ? year - 1 : year;
+        Pillar yearPillar = Pillar.ofCycle(sajuYear - 4);
+
+        // 월주: 직전 절입 기준 월지, 년간으로 인월 천간을 정한 뒤 순행
+        int monthBranch = (lastJeol(year, birthEpochSecond) + 1) % 12;
+        int monthOffset = Math.floorMod(monthBranch - 2, 12);
+        Pillar monthPillar = new Pillar(((yearPillar.stem() % 5) * 2 + 2 + monthOffset) % 10, monthBranch);
+
+        Pillar dayPillar = Pillar.ofCycle((int) Math.floorMod(birthDate.toEpochDay() + EPOCH_DAY_CYCLE_OFFSET, 60L));
+
+        Pillar hourPillar = null;
+        if (siJin != null) {
+            int hourBranch = siJin.ordinal();
+            int hourDayStem = time.getHour() >= LATE_JA_HOUR ? dayPillar.stem() + 1 : dayPillar.stem();
+            hourPillar = new Pillar(((hourDayStem % 5) * 2 + hourBranch) % 10, hourBranch);
+        }
+
+        return new SajuPillars(yearPillar, monthPillar, dayPillar, hourPillar);
+    }
+
+    /**
+     * 출생 시각 직전의 절기 순번 (소한 0 ~ 대설 11), 소한 이전이면 전년도 대설(11)
+     */
+    private static int lastJeol(int year, long epochSecond) {
+        for (int j = JEOL_PER_YEAR - 1; j >= 0; j--) {
+            if (epochSecond >= jeolEpochSecond(year, j)) {
+                return j;
+            }
+        }
+        return JEOL_PER_YEAR - 1;
+    }
+
+    private static long jeolEpochSecond(int year, int jeol) {
+        return JEOL_EPOCH_SECONDS[(year - TABLE_FIRST_YEAR) * JEOL_PER_YEAR + jeol];
+    }
+
+    private static LocalTime parseTime(String birthTime) {
+        try {
+            return LocalTime.parse(birthTime.trim());
+        } catch (DateTimeParseException e) {
+            return LocalTime.of(Integer.parseInt(birthTime.split(":")[0].trim()), 0);
+        }
+    }
+
+    private static long[] buildJeolTable() {
+        long[] table = new long[(MAX_YEAR - TABLE_FIRST_YEAR + 1) * JEOL_PER_YEAR];
+        for (int year = TABLE_FIRST_YEAR; year <= MAX_YEAR; year++) {
+            double januarySixth = LocalDate.of(year, 1, 6).toEpochDay() + 2440587.5;
+            for (int j = 0; j < JEOL_PER_YEAR; j++) {
+                double jd = solarTermJulianDay((285 + 30 * j) % 360, januarySixth + j * 30.4368);
+                table[(year - TABLE_FIRST_YEAR) * JEOL_PER_YEAR + j] = Math.round((jd - 2440587.5) * 86400);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * 태양 시황경이 targetLongitude가 되는 율리우스일 (뉴턴 반복)
+     */
+    private static double solarTermJulianDay(double targetLongitude, double estimate) {
+        double jd = estimate;
+        for (int i = 0; i < 8; i++) {
+            double diff = targetLongitude - apparentSolarLongitude(jd);
+            diff -= 360 * Math.floor((diff + 180) / 360);
+            jd += diff * 365.2422 / 360;
+        }
+        return jd;
+    }
+
+    /**
+     * 태양 시황경 (Meeus 저정밀 공식, 단위: 도)
+     */
+    private static double apparentSolarLongitude(double jd) {
+        double t = (jd - 2451545.0) / 36525;
+        double meanLongitude = 280.46646 + 36000.76983 * t + 0.0003032 * t * t;
+        double meanAnomaly = Math.toRadians(357.52911 + 35999.05029 * t - 0.0001537 * t * t);
+        double center = (1.914602 - 0.004817 * t - 0.000014 * t * t) * Math.sin(meanAnomaly)
+                + (0.019993 - 0.000101 * t) * Math.sin(2 * meanAnomaly)
+                + 0.000289 * Math.sin(3 * meanAnomaly);
+        double omega = Math.toRadians(125.04 - 1934.136 * t);
+        return meanLongitude + center - 0.00569 - 0.00478 * Math.sin(omega);
+    }
+}
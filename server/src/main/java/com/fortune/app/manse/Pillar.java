@@ -0,0 +1,33 @@
+package com.fortune.app.manse;
+
+/**
+ * 간지 한 기둥 (천간 0~9, 지지 0~11)
+ */
+public record Pillar(int stem, int branch) {
+
+    private static final String[] STEMS = {"갑", "을", "병", "정", "무", "기", "경", "신", "임", "계"};
+    private static final String[] STEM_HANJA = {"甲", "乙", "丙", "丁", "戊", "己", "庚", "辛", "壬", "癸"};
+    private static final String[] BRANCHES = {"자", "축", "인", "묘", "진", "사", "오", "미", "신", "유", "술", "해"};
+    private static final String[] BRANCH_HANJA = {"子", "丑", "寅", "卯", "辰", "巳", "午", "未", "申", "酉", "戌", "亥"};
+
+    /**
+     * 육십갑자 순번(0 = 갑자)으로 기둥 생성
+     */
+    public static Pillar ofCycle(int index) {
+        int cycle = Math.floorMod(index, 60);
+        return new Pillar(cycle % 10, cycle % 12);
+    }
+
+    public String getHangul() {
+        return STEMS[stem] + BRANCHES[branch];
+    }
+
+    public String getHanja() {
+        return STEM_HANJA[stem] + BRANCH_HANJA[branch];
+    }
+
+    @Override
+    public String toString() {
+        return getHangul() + "(" + getHanja() + ")";
+    }
+}
@@ -0,0 +1,50 @@
+package com.fortune.app.manse;
+
+import java.util.StringJoiner;
+
+/**
+ * 만세력으로 계산한 사주 팔자와 오행 분포
+ * 생시를 알 수 없으면 시주(hour)는 null
+ * 네 기둥이 같으면 같은 값으로 취급 (캐시 키 구성 요소)
+ */
+public record SajuPillars(Pillar year, Pillar month, Pillar day, Pillar hour) {
+
+    private static final String[] ELEMENTS = {"목(木)", "화(火)", "토(土)", "금(金)", "수(水)"};
+
+    /** 지지별 오행 (목0 화1 토2 금3 수4) */
+    private static final int[] BRANCH_ELEMENTS = {4, 2, 0, 0, 2, 1, 1, 2, 3, 3, 2, 4};
+
+    /**
+     * 오행별 개수 (목, 화, 토, 금, 수 순서, 천간과 지지를 모두 셈)
+     */
+    public int[] elementCounts() {
+        int[] counts = new int[5];
+        for (Pillar pillar : new Pillar[]{year, month, day, hour}) {
+            if (pillar != null) {
+                counts[pillar.stem() / 2]++;
+                counts[BRANCH_ELEMENTS[pillar.branch()]]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 프롬프트용 사주 원국 표기 (예: 년주 갑자(甲子), 월주 ...)
+     */
+    public String formatPillars() {
+        return "년주 " + year + ", 월주 " + month + ", 일주 " + day
+                + ", 시주 " + (hour != null ? hour.toString() : "미상");
+    }
+
+    /**
+     * 프롬프트용 오행 개수 표기 (예: 목(木) 2개, 화(火) 1개 ...)
+     */
+    public String formatElements() {
+        int[] counts = elementCounts();
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < ELEMENTS.length; i++) {
+            joiner.add(ELEMENTS[i] + " " + counts[i] + "개");
+        }
+        return joiner.toString();
+    }
+}
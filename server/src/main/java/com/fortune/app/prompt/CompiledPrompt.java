@@ -0,0 +1,92 @@
+package com.fortune.app.prompt;
+
+import com.fortune.app.exception.PromptTemplateException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미리 컴파일된 프롬프트 템플릿
+ * 템플릿 텍스트를 고정 문자열과 {변수} 구간으로 한 번만 분리해 두고, 렌더링 시에는 이어 붙이기만 수행
+ */
+@Getter
+public final class CompiledPrompt {
+
+    private static final Pattern VARIABLE = Pattern.compile("\\{([A-Za-z_][A-Za-z0-9_]*)}");
+
+    private final String name;
+    private final String version;
+    private final String source;
+    private final LocalDateTime loadedAt;
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private CompiledPrompt(String name, String version, String source,
+                           String[] literals, String[] variables, int literalLength) {
+        this.name = name;
+        this.version = version;
+        this.source = source;
+        this.loadedAt = LocalDateTime.now();
+        this.literals = literals;
+        this.variables = variables;
+        this.literalLength = literalLength;
+    }
+
+    public static CompiledPrompt compile(String name, String template, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int literalLength = 0;
+        int position = 0;
+
+        Matcher matcher = VARIABLE.matcher(template);
+        while (matcher.find()) {
+            String literal = template.substring(position, matcher.start());
+            literals.add(literal);
+            literalLength += literal.length();
+            variables.add(matcher.group(1));
+            position = matcher.end();
+        }
+        String tail = template.substring(position);
+        literals.add(tail);
+        literalLength += tail.length();
+
+        return new CompiledPrompt(name, hash(template), source,
+                literals.toArray(String[]::new), variables.toArray(String[]::new), literalLength);
+    }
+
+    /**
+     * 변수를 채워 프롬프트 텍스트 생성 (템플릿의 변수 값이 없으면 PromptTemplateException)
+     */
+    public String render(Map<String, ?> model) {
+        StringBuilder builder = new StringBuilder(literalLength + variables.length * 16);
+        for (int i = 0; i < variables.length; i++) {
+            builder.append(literals[i]);
+            Object value = model.get(variables[i]);
+            if (value == null) {
+                throw new PromptTemplateException("프롬프트 변수 값이 없습니다: " + name + "." + variables[i]);
+            }
+            builder.append(value);
+        }
+        builder.append(literals[variables.length]);
+        return builder.toString();
+    }
+
+    private static String hash(String template) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(template.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
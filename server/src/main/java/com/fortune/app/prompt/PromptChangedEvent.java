@@ -0,0 +1,7 @@
+package com.fortune.app.prompt;
+
+/**
+ * 프롬프트 버전이 변경되었을 때 발행되는 이벤트 (캐시 무효화 용도)
+ */
+public record PromptChangedEvent(String name, String previousVersion, String version) {
+}
@@ -0,0 +1,216 @@
+package com.fortune.app.prompt;
+
+import com.fortune.app.config.PromptProperties;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.OutputFormat;
+import com.fortune.app.exception.OpenAIException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 프롬프트 템플릿 레지스트리
+ * prompts/ 아래 템플릿을 시작 시 한 번 컴파일해 두고, 외부 디렉토리가 설정되면 파일 변경을 감지해 원자적으로 교체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PromptTemplateRegistry {
+
+    private static final String EXTENSION = ".txt";
+
+    private final PromptProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, CompiledPrompt> prompts = new ConcurrentHashMap<>();
+    private WatchService watchService;
+
+    @PostConstruct
+    void initialize() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(properties.getLocation());
+        for (Resource resource : resources) {
+            String fileName = resource.getFilename();
+            if (fileName != null && fileName.endsWith(EXTENSION)) {
+                register(nameOf(fileName), resource.getContentAsString(StandardCharsets.UTF_8), resource.getDescription());
+            }
+        }
+
+        if (properties.getExternalDir() != null && !properties.getExternalDir().isBlank()) {
+            Path externalDir = Path.of(properties.getExternalDir());
+            reloadExternal(externalDir);
+            watch(externalDir);
+        }
+
+        log.info("프롬프트 템플릿 로드 완료 - {}", prompts.keySet());
+    }
+
+    /**
+     * 운세 타입에 해당하는 컴파일된 프롬프트 조회
+     */
+    public CompiledPrompt get(FortuneType fortuneType) {
+        return get(fortuneType, OutputFormat.TEXT);
+    }
+
+    /**
+     * 운세 타입과 결과 형식에 해당하는 컴파일된 프롬프트 조회
+     */
+    public CompiledPrompt get(FortuneType fortuneType, OutputFormat outputFormat) {
+        String name = fortuneType.getPromptName(outputFormat);
+        CompiledPrompt prompt = prompts.get(name);
+        if (prompt == null) {
+            throw new OpenAIException("프롬프트 템플릿을 찾을 수 없습니다: " + name);
+        }
+        return prompt;
+    }
+
+    /**
+     * 운세 타입에 해당하는 프롬프트의 현재 버전 (템플릿 해시)
+     */
+    public String getVersion(FortuneType fortuneType) {
+        return get(fortuneType).getVersion();
+    }
+
+    public String getVersion(FortuneType fortuneType, OutputFormat outputFormat) {
+        return get(fortuneType, outputFormat).getVersion();
+    }
+
+    public List<CompiledPrompt> getAll() {
+        return List.copyOf(prompts.values());
+    }
+
+    /**
+     * 외부 디렉토리의 프롬프트를 다시 로드
+     */
+    public void reloadExternal() {
+        if (properties.getExternalDir() == null || properties.getExternalDir().isBlank()) {
+            return;
+        }
+        reloadExternal(Path.of(properties.getExternalDir()));
+    }
+
+    private void reloadExternal(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            log.warn("외부 프롬프트 디렉토리가 없습니다: {}", directory);
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                    .forEach(this::loadFile);
+        } catch (IOException e) {
+            log.error("외부 프롬프트 디렉토리 로드 실패: {}", directory, e);
+        }
+    }
+
+    private void loadFile(Path file) {
+        try {
+            register(nameOf(file.getFileName().toString()), Files.readString(file, StandardCharsets.UTF_8), file.toString());
+        } catch (IOException e) {
+            // 파일을 읽지 못하면 기존 버전을 유지
+            log.warn("프롬프트 파일 로드 실패, 기존 버전 유지: {}", file, e);
+        }
+    }
+
+    private void register(String name, String template, String source) {
+        CompiledPrompt compiled = CompiledPrompt.compile(name, template, source);
+        CompiledPrompt previous = prompts.put(name, compiled);
+
+        if (previous != null && !previous.getVersion().equals(compiled.getVersion())) {
+            log.info("프롬프트 교체 - 이름: {}, 버전: {} -> {}", name, previous.getVersion(), compiled.getVersion());
+            eventPublisher.publishEvent(new PromptChangedEvent(name, previous.getVersion(), compiled.getVersion()));
+        }
+    }
+
+    /**
+     * 외부 디렉토리 변경 감시 (데몬 스레드)
+     */
+    private void watch(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        Thread watcher = new Thread(() -> {
+            try {
+                watchLoop(directory);
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "prompt-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+
+        log.info("외부 프롬프트 디렉토리 감시 시작: {}", directory);
+    }
+
+    /**
+     * 변경된 파일을 모아 두었다가 reload-debounce 동안 추가 변경이 없으면 한 번만 다시 로드
+     * 로드 중 예외가 발생해도 감시는 계속
+     */
+    private void watchLoop(Path directory) throws InterruptedException {
+        long debounceNanos = properties.getReloadDebounce().toNanos();
+        Map<Path, Long> pending = new HashMap<>();
+
+        while (true) {
+            WatchKey key = pending.isEmpty()
+                    ? watchService.take()
+                    : watchService.poll(debounceNanos, TimeUnit.NANOSECONDS);
+            if (key != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path changed && changed.toString().endsWith(EXTENSION)) {
+                        pending.put(directory.resolve(changed), System.nanoTime());
+                    }
+                }
+                key.reset();
+            }
+
+            long now = System.nanoTime();
+            pending.entrySet().removeIf(entry -> {
+                if (now - entry.getValue() < debounceNanos) {
+                    return false;
+                }
+                try {
+                    loadFile(entry.getKey());
+                } catch (RuntimeException e) {
+                    log.error("프롬프트 파일 다시 로드 실패, 기존 버전 유지: {}", entry.getKey(), e);
+                }
+                return true;
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private static String nameOf(String fileName) {
+        return fileName.substring(0, fileName.length() - EXTENSION.length());
+    }
+}
@@ -0,0 +1,25 @@
+package com.fortune.app.repository;
+
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.Gender;
+import com.fortune.app.enumerate.SiJin;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * fortune_result 테이블의 한 행
+ * 날짜와 무관한 결과(사주)는 fortuneDate에 FortuneResultRepository.UNDATED를 사용
+ */
+public record FortuneResultRecord(
+        String profileHash,
+        FortuneType fortuneType,
+        String promptVersion,
+        LocalDate fortuneDate,
+        Gender gender,
+        String birthDate,
+        SiJin siJin,
+        String result,
+        LocalDateTime createdAt
+) {
+}
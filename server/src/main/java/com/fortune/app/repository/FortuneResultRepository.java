@@ -0,0 +1,101 @@
+package com.fortune.app.repository;
+
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.Gender;
+import com.fortune.app.enumerate.SiJin;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 생성된 운세 결과 저장소 (프로필 해시 + 운세 타입 + 프롬프트 버전 + 날짜 기준)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FortuneResultRepository {
+
+    /**
+     * 날짜와 무관한 결과(사주)의 fortune_date 값
+     */
+    public static final LocalDate UNDATED = LocalDate.of(1970, 1, 1);
+
+    private static final String COLUMNS =
+            "profile_hash, fortune_type, prompt_version, fortune_date, gender, birth_date, si_jin, result, created_at";
+
+    private static final String UPSERT_SQL = "INSERT INTO fortune_result (" + COLUMNS + ") "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE result = VALUES(result), created_at = VALUES(created_at)";
+
+    private static final String FIND_RESULT_SQL = "SELECT result FROM fortune_result "
+            + "WHERE profile_hash = ? AND fortune_type = ? AND prompt_version = ? AND fortune_date = ?";
+
+    private static final String FIND_RECORD_SQL = "SELECT " + COLUMNS + " FROM fortune_result "
+            + "WHERE profile_hash = ? AND fortune_type = ? AND prompt_version = ? AND fortune_date = ?";
+
+    private static final String FIND_RECENT_SQL = "SELECT " + COLUMNS + " FROM fortune_result "
+            + "WHERE fortune_type = ? AND prompt_version = ? AND fortune_date >= ? "
+            + "ORDER BY created_at DESC LIMIT ?";
+
+    private static final RowMapper<FortuneResultRecord> ROW_MAPPER = (rs, rowNum) -> new FortuneResultRecord(
+            rs.getString("profile_hash"),
+            FortuneType.valueOf(rs.getString("fortune_type")),
+            rs.getString("prompt_version"),
+            rs.getDate("fortune_date").toLocalDate(),
+            Gender.valueOf(rs.getString("gender")),
+            rs.getString("birth_date"),
+            rs.getString("si_jin") != null ? SiJin.valueOf(rs.getString("si_jin")) : null,
+            rs.getString("result"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<String> findResult(String profileHash, FortuneType fortuneType, String promptVersion, LocalDate date) {
+        return jdbcTemplate.queryForList(FIND_RESULT_SQL, String.class,
+                        profileHash, fortuneType.name(), promptVersion, Date.valueOf(date))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 생성 시각을 포함한 행 전체 조회 (ID로 조회할 때)
+     */
+    public Optional<FortuneResultRecord> findRecord(String profileHash, FortuneType fortuneType, String promptVersion, LocalDate date) {
+        return jdbcTemplate.query(FIND_RECORD_SQL, ROW_MAPPER,
+                        profileHash, fortuneType.name(), promptVersion, Date.valueOf(date))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 지정한 날짜 이후의 결과를 최신순으로 조회 (캐시 워밍용)
+     */
+    public List<FortuneResultRecord> findRecent(FortuneType fortuneType, String promptVersion, LocalDate fromDate, int limit) {
+        return jdbcTemplate.query(FIND_RECENT_SQL, ROW_MAPPER,
+                fortuneType.name(), promptVersion, Date.valueOf(fromDate), limit);
+    }
+
+    /**
+     * 일괄 저장 (같은 키가 있으면 결과를 덮어씀)
+     */
+    public void saveAll(List<FortuneResultRecord> records) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setString(1, record.profileHash());
+            ps.setString(2, record.fortuneType().name());
+            ps.setString(3, record.promptVersion());
+            ps.setDate(4, Date.valueOf(record.fortuneDate()));
+            ps.setString(5, record.gender().name());
+            ps.setString(6, record.birthDate());
+            ps.setString(7, record.siJin() != null ? record.siJin().name() : null);
+            ps.setString(8, record.result());
+            ps.setTimestamp(9, Timestamp.valueOf(record.createdAt()));
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.fortune.app.service;
+
+import com.fortune.app.cache.DailyFortuneCache;
+import com.fortune.app.config.FortuneCacheProperties;
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.exception.OpenAIException;
+import com.fortune.app.exception.ServiceOverloadedException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * 오늘의 운세 사전 생성 스케줄러
+ * off-peak 시간대에 최근 조회된 프로필의 다음 피크일 운세를 일정한 속도로 미리 생성
+ */
+@Component
+@Slf4j
+public class DailyFortunePregenerator {
+
+    /**
+     * 한 주기에 생성 여부를 확인할 최대 프로필 수 (나머지는 다음 주기에 이어서 확인)
+     */
+    private static final int PROFILES_PER_RUN = 100;
+
+    private final OpenAIService openAIService;
+    private final DailyFortuneCache dailyFortuneCache;
+    private final FortuneResultStore fortuneResultStore;
+    private final FortuneCacheProperties.Pregeneration properties;
+
+    public DailyFortunePregenerator(OpenAIService openAIService,
+                                    DailyFortuneCache dailyFortuneCache,
+                                    FortuneResultStore fortuneResultStore,
+                                    FortuneCacheProperties cacheProperties) {
+        this.openAIService = openAIService;
+        this.dailyFortuneCache = dailyFortuneCache;
+        this.fortuneResultStore = fortuneResultStore;
+        this.properties = cacheProperties.getDaily().getPregeneration();
+    }
+
+    /**
+     * interval마다 아직 생성되지 않은 프로필 1건을 생성
+     */
+    @Scheduled(fixedDelayString = "${fortune.cache.daily.pregeneration.interval:PT2S}")
+    public void pregenerate() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        ZonedDateTime now = ZonedDateTime.now(dailyFortuneCache.getZone());
+        if (!isOffPeak(now.getHour())) {
+            return;
+        }
+
+        LocalDate targetDate = targetDate(now);
+        for (AnalyzeFortuneRequest profile : dailyFortuneCache.nextRecentProfiles(PROFILES_PER_RUN)) {
+            if (profile.getFortuneType() != FortuneType.DAILY || dailyFortuneCache.contains(targetDate, profile)) {
+                continue;
+            }
+
+            try {
+                String result = fortuneResultStore.getOrGenerate(
+                        profile, targetDate, () -> openAIService.getDailyFortune(profile, targetDate));
+                dailyFortuneCache.put(targetDate, profile, result);
+                log.debug("오늘의 운세 사전 생성 완료 - 날짜: {}", targetDate);
+            } catch (OpenAIException e) {
+                log.warn("오늘의 운세 사전 생성 실패 - 날짜: {}, 원인: {}", targetDate, e.getMessage());
+            } catch (ServiceOverloadedException | CallNotPermittedException e) {
+                // 사전 생성은 실시간 요청에 양보하고 다음 주기에 다시 시도
+                log.debug("OpenAI 호출 한도 초과 또는 서킷 오픈으로 오늘의 운세 사전 생성 건너뜀 - 날짜: {}", targetDate);
+            }
+            return;
+        }
+    }
+
+    /**
+     * off-peak 구간 여부 (start-hour > end-hour 이면 자정을 넘기는 구간)
+     */
+    private boolean isOffPeak(int hour) {
+        int start = properties.getStartHour();
+        int end = properties.getEndHour();
+        if (start <= end) {
+            return hour >= start && hour < end;
+        }
+        return hour >= start || hour < end;
+    }
+
+    /**
+     * 다음 피크가 시작되는 날짜 (피크 시작 전이면 오늘, 이후면 내일)
+     */
+    private LocalDate targetDate(ZonedDateTime now) {
+        LocalDate today = now.toLocalDate();
+        return now.getHour() < properties.getPeakStartHour() ? today : today.plusDays(1);
+    }
+}
@@ -0,0 +1,113 @@
+package com.fortune.app.service;
+
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.dto.DailyFortuneResult;
+import com.fortune.app.dto.SajuFortuneResult;
+import com.fortune.app.enumerate.OutputFormat;
+import com.fortune.app.enumerate.SiJin;
+import com.fortune.app.manse.ManseCalendar;
+import com.fortune.app.manse.SajuPillars;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * OpenAI 장애 시 사용하는 간이 운세 생성기
+ * 프로필과 날짜로 결정되는 값만 사용하므로 같은 입력에는 항상 같은 결과를 반환
+ * JSON 형식 요청에는 구조화 결과와 같은 형태의 JSON으로 반환
+ */
+@Component
+@RequiredArgsConstructor
+public class FallbackFortuneRenderer {
+
+    private static final String[] ZODIAC_ANIMALS = {"쥐", "소", "호랑이", "토끼", "용", "뱀", "말", "양", "원숭이", "닭", "개", "돼지"};
+    private static final String[] KEYWORDS = {"안정", "도전", "소통", "정리", "배움", "인내", "결실", "휴식", "관계", "기회", "절제", "감사"};
+    private static final String[] COLORS = {"파란색", "초록색", "노란색", "흰색", "보라색", "주황색", "남색", "분홍색"};
+    private static final String[] DIRECTIONS = {"동쪽", "서쪽", "남쪽", "북쪽"};
+    private static final String[] ADVICES = {
+            "서두르기보다 한 걸음씩 차분히 나아가면 좋은 흐름을 만날 수 있습니다.",
+            "가까운 사람과의 대화 속에서 뜻밖의 힌트를 얻을 수 있는 날입니다.",
+            "미뤄 두었던 일을 정리하면 마음이 한결 가벼워집니다.",
+            "작은 친절이 생각보다 큰 인연으로 돌아올 수 있습니다.",
+            "무리한 지출이나 약속은 피하고 컨디션 관리에 신경 쓰세요."
+    };
+
+    private static final String SAJU_NOTICE = "현재 상세 사주 해석 서비스가 원활하지 않아 간략한 정보만 제공해 드립니다. 잠시 후 다시 시도해주세요.";
+    private static final String DAILY_NOTICE = "현재 상세 운세 해석 서비스가 원활하지 않아 간략한 운세를 제공해 드립니다.";
+
+    private final ManseCalendar manseCalendar;
+    private final StructuredFortuneParser structuredFortuneParser;
+
+    /**
+     * 간이 사주 결과
+     */
+    public String renderSaju(AnalyzeFortuneRequest request) {
+        SajuPillars pillars = manseCalendar.calculate(request);
+        SiJin siJin = SiJin.from(request.getBirthTime());
+        String zodiac = ZODIAC_ANIMALS[pillars.year().branch()];
+
+        if (request.getOutputFormat() == OutputFormat.JSON) {
+            return structuredFortuneParser.write(SajuFortuneResult.builder()
+                    .basicAnalysis(zodiac + "띠, 사주 원국 " + pillars.formatPillars() + ", 오행 분포 " + pillars.formatElements())
+                    .personality("")
+                    .health("")
+                    .careerAndWealth("")
+                    .relationship("")
+                    .yearlyOutlook("")
+                    .luckAdvice(SAJU_NOTICE)
+                    .build());
+        }
+
+        return "## 간략 사주 정보\n"
+                + "- **생년월일:** " + request.getBirthDate() + "\n"
+                + "- **띠:** " + zodiac + "띠\n"
+                + "- **생시:** " + (siJin != null ? siJin.getDescription() + "(" + siJin.getHanja() + ")" : "시간 미상") + "\n"
+                + "- **사주 원국:** " + pillars.formatPillars() + "\n"
+                + "- **오행 분포:** " + pillars.formatElements() + "\n\n"
+                + SAJU_NOTICE;
+    }
+
+    /**
+     * 간이 오늘의 운세 결과
+     */
+    public String renderDaily(AnalyzeFortuneRequest request, LocalDate date) {
+        int seed = Objects.hash(request.getBirthDate(), SiJin.from(request.getBirthTime()), request.getGender(), date);
+
+        int score = 3 + Math.floorMod(seed, 3);
+        String keyword1 = KEYWORDS[Math.floorMod(seed, KEYWORDS.length)];
+        String keyword2 = KEYWORDS[Math.floorMod(seed >>> 4, KEYWORDS.length)];
+        String color = COLORS[Math.floorMod(seed >>> 8, COLORS.length)];
+        String direction = DIRECTIONS[Math.floorMod(seed >>> 12, DIRECTIONS.length)];
+        int number = 1 + Math.floorMod(seed >>> 16, 9);
+        String advice = ADVICES[Math.floorMod(seed >>> 20, ADVICES.length)];
+
+        if (request.getOutputFormat() == OutputFormat.JSON) {
+            return structuredFortuneParser.write(DailyFortuneResult.builder()
+                    .score(score)
+                    .keywords(List.of(keyword1, keyword2))
+                    .summary(DAILY_NOTICE)
+                    .work("")
+                    .money("")
+                    .relationship("")
+                    .health("")
+                    .luckyTime("")
+                    .luckyDirection(direction)
+                    .luckyColor(color)
+                    .luckyNumbers(List.of(number))
+                    .advice(advice)
+                    .build());
+        }
+
+        return "## 🌟 오늘의 간략 운세 (" + date + ")\n"
+                + "- **오늘의 운세 지수:** " + "★".repeat(score) + "☆".repeat(5 - score) + "\n"
+                + "- **키워드:** " + keyword1 + ", " + keyword2 + "\n"
+                + "- **행운의 색상:** " + color + "\n"
+                + "- **행운의 방향:** " + direction + "\n"
+                + "- **행운의 숫자:** " + number + "\n\n"
+                + advice + "\n\n"
+                + DAILY_NOTICE;
+    }
+}
@@ -0,0 +1,122 @@
+package com.fortune.app.service;
+
+import com.fortune.app.cache.FortuneCacheKey;
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.dto.ErrorResponse;
+import com.fortune.app.dto.FortuneBatchResponse;
+import com.fortune.app.dto.FortuneResponse;
+import com.fortune.app.exception.OpenAIException;
+import com.fortune.app.exception.ServiceOverloadedException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 여러 프로필의 운세를 한 번에 처리하는 일괄 해석 서비스
+ * 동일한 프로필은 한 번만 처리하고, 나머지는 설정된 동시성 한도 내에서 병렬로 처리
+ */
+@Service
+@Slf4j
+public class FortuneBatchService {
+    
+    private static final String BATCH_PATH = "/fortune/analyze/batch";
+    
+    private final FortuneService fortuneService;
+    private final int maxConcurrency;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    
+    public FortuneBatchService(FortuneService fortuneService,
+                               @Value("${fortune.batch.max-concurrency:4}") int maxConcurrency) {
+        this.fortuneService = fortuneService;
+        this.maxConcurrency = maxConcurrency;
+    }
+    
+    /**
+     * 일괄 운세 해석 (개별 항목의 실패는 해당 항목의 error로만 반환)
+     */
+    public FortuneBatchResponse analyzeBatch(List<AnalyzeFortuneRequest> requests) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Map<FortuneCacheKey, CompletableFuture<FortuneResponse>> tasks = new LinkedHashMap<>();
+        
+        for (AnalyzeFortuneRequest request : requests) {
+            tasks.computeIfAbsent(FortuneCacheKey.of(request),
+                    key -> CompletableFuture.supplyAsync(() -> analyzeWithPermit(request, permits), executor));
+        }
+        
+        log.info("일괄 운세 해석 요청 - 요청 수: {}, 중복 제거 후: {}", requests.size(), tasks.size());
+        
+        List<FortuneBatchResponse.Item> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            CompletableFuture<FortuneResponse> task = tasks.get(FortuneCacheKey.of(requests.get(i)));
+            try {
+                results.add(FortuneBatchResponse.Item.success(i, task.join()));
+            } catch (CompletionException e) {
+                results.add(FortuneBatchResponse.Item.failure(i, toErrorResponse(e.getCause())));
+            }
+        }
+        
+        return FortuneBatchResponse.of(results);
+    }
+    
+    private FortuneResponse analyzeWithPermit(AnalyzeFortuneRequest request, Semaphore permits) {
+        permits.acquireUninterruptibly();
+        try {
+            return fortuneService.analyzeFortune(request);
+        } finally {
+            permits.release();
+        }
+    }
+    
+    /**
+     * 개별 항목 예외를 GlobalExceptionHandler와 동일한 형식의 오류 응답으로 변환
+     */
+    private ErrorResponse toErrorResponse(Throwable error) {
+        if (error instanceof IllegalArgumentException) {
+            return ErrorResponse.of(HttpStatus.BAD_REQUEST.value(), "Invalid Argument", error.getMessage(), BATCH_PATH);
+        }
+        
+        if (error instanceof OpenAIException || error instanceof CallNotPermittedException) {
+            log.warn("일괄 해석 항목 실패: {}", error.getMessage());
+            return ErrorResponse.of(
+                    HttpStatus.SERVICE_UNAVAILABLE.value(),
+                    "Fortune Service Error",
+                    "사주 해석 서비스에 일시적인 문제가 발생했습니다. 잠시 후 다시 시도해주세요.",
+                    BATCH_PATH
+            );
+        }
+        
+        if (error instanceof ServiceOverloadedException) {
+            return ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Overloaded", error.getMessage(), BATCH_PATH);
+        }
+        
+        if (error instanceof UnsupportedOperationException) {
+            return ErrorResponse.of(HttpStatus.NOT_IMPLEMENTED.value(), "Not Implemented", error.getMessage(), BATCH_PATH);
+        }
+        
+        log.error("일괄 해석 항목 처리 중 예상치 못한 오류 발생: {}", error.getMessage(), error);
+        return ErrorResponse.of(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                "Internal Server Error",
+                "서버 내부 오류가 발생했습니다.",
+                BATCH_PATH
+        );
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
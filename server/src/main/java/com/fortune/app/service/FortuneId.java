@@ -0,0 +1,74 @@
+package com.fortune.app.service;
+
+import com.fortune.app.cache.FortuneCacheKey;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.OutputFormat;
+import com.fortune.app.repository.FortuneResultRepository;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 운세 결과 식별자 (정규화 프로필 해시 + 운세 타입 + 결과 형식 + 프롬프트 버전 + 날짜)
+ * 같은 입력은 항상 같은 ID가 되고, ID만으로 저장소의 기본 키를 복원할 수 있도록 구성 요소를 그대로 인코딩 (base64url)
+ */
+public record FortuneId(FortuneType fortuneType, OutputFormat outputFormat, String promptVersion,
+                        LocalDate date, String profileHash) {
+
+    private static final int VERSION_BYTES = 6;
+    private static final int HASH_BYTES = 32;
+    private static final int LENGTH = 2 + Integer.BYTES + VERSION_BYTES + HASH_BYTES;
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * 날짜 단위 운세가 아니면 date를 무시
+     */
+    public static FortuneId of(FortuneCacheKey key, String promptVersion, LocalDate date) {
+        return new FortuneId(key.fortuneType(), key.outputFormat(), promptVersion,
+                key.fortuneType().isDated() ? date : FortuneResultRepository.UNDATED, key.profileHash());
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .put((byte) fortuneType.ordinal())
+                .put((byte) outputFormat.ordinal())
+                .putInt((int) date.toEpochDay())
+                .put(HEX.parseHex(promptVersion))
+                .put(HEX.parseHex(profileHash));
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * 형식이 맞지 않거나 정규 인코딩이 아닌 ID는 결과가 없는 것으로 취급 (같은 결과가 여러 URL로 캐시되지 않도록)
+     */
+    public static Optional<FortuneId> decode(String id) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(id);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (bytes.length != LENGTH) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int type = buffer.get();
+        int format = buffer.get();
+        if (type < 0 || type >= FortuneType.values().length || format < 0 || format >= OutputFormat.values().length) {
+            return Optional.empty();
+        }
+        LocalDate date = LocalDate.ofEpochDay(buffer.getInt());
+        String promptVersion = HEX.formatHex(bytes, buffer.position(), buffer.position() + VERSION_BYTES);
+        String profileHash = HEX.formatHex(bytes, buffer.position() + VERSION_BYTES, LENGTH);
+        FortuneId fortuneId = new FortuneId(FortuneType.values()[type], OutputFormat.values()[format],
+                promptVersion, date, profileHash);
+        return fortuneId.encode().equals(id) ? Optional.of(fortuneId) : Optional.empty();
+    }
+}
@@ -0,0 +1,92 @@
+package com.fortune.app.service;
+
+import com.fortune.app.cache.DailyFortuneCache;
+import com.fortune.app.dto.FortuneResponse;
+import com.fortune.app.exception.FortuneNotFoundException;
+import com.fortune.app.tarot.TarotReading;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * ID로 저장된 운세 결과 조회 (모델 호출 없이 저장소만 조회)
+ * 응답 캐시 유효 기간은 결과의 유효 기간과 같음 (날짜 단위 운세는 해당 날짜 자정까지, 사주는 설정된 기간)
+ */
+@Service
+@RequiredArgsConstructor
+public class FortuneLookupService {
+
+    private final FortuneResultStore fortuneResultStore;
+    private final TarotService tarotService;
+    private final DailyFortuneCache dailyFortuneCache;
+
+    @Value("${fortune.http-cache.saju-max-age:P30D}")
+    private Duration sajuMaxAge;
+
+    /**
+     * 조회 결과와 HTTP 캐시 정보 (etag는 따옴표 없는 값)
+     */
+    public record StoredFortune(FortuneResponse response, String etag, Duration maxAge) {
+    }
+
+    public StoredFortune find(String id) {
+        FortuneId fortuneId = FortuneId.decode(id)
+                .orElseThrow(() -> new FortuneNotFoundException("운세 결과를 찾을 수 없습니다: " + id));
+        FortuneResponse response = load(id, fortuneId)
+                .orElseThrow(() -> new FortuneNotFoundException("운세 결과를 찾을 수 없습니다: " + id));
+        return new StoredFortune(response, etag(response), maxAge(fortuneId));
+    }
+
+    /**
+     * 타로는 저장된 종합 해석에 같은 날짜의 카드 뽑기를 다시 적용해 렌더링
+     * (종합 해석이 비활성화되어 있으면 카드만 렌더링하고 생성 시각은 해당 날짜의 시작)
+     */
+    private Optional<FortuneResponse> load(String id, FortuneId fortuneId) {
+        String fortuneTypeName = fortuneId.fortuneType().getValue();
+        return switch (fortuneId.fortuneType()) {
+            case TAROT -> {
+                TarotReading reading = tarotService.draw(fortuneId.profileHash(), fortuneId.date());
+                if (!tarotService.isSynthesisEnabled()) {
+                    yield Optional.of(FortuneResponse.stored(id, fortuneTypeName,
+                            tarotService.render(fortuneId.outputFormat(), reading, null),
+                            fortuneId.date().atStartOfDay()));
+                }
+                yield fortuneResultStore.findById(fortuneId).map(record -> FortuneResponse.stored(id, fortuneTypeName,
+                        tarotService.render(fortuneId.outputFormat(), reading, record.result()), record.createdAt()));
+            }
+            default -> fortuneResultStore.findById(fortuneId).map(record -> FortuneResponse.stored(id, fortuneTypeName,
+                    record.result(), record.createdAt()));
+        };
+    }
+
+    private Duration maxAge(FortuneId fortuneId) {
+        if (!fortuneId.fortuneType().isDated()) {
+            return sajuMaxAge;
+        }
+        ZonedDateTime now = ZonedDateTime.now(dailyFortuneCache.getZone());
+        ZonedDateTime midnight = fortuneId.date().plusDays(1).atStartOfDay(dailyFortuneCache.getZone());
+        return now.isBefore(midnight) ? Duration.between(now, midnight) : Duration.ZERO;
+    }
+
+    /**
+     * 응답 본문이 바뀌는 값(결과, 생성 시각)의 SHA-256 앞 16바이트
+     * 같은 ID라도 동시 생성으로 결과가 덮어써지면 ETag가 달라짐
+     */
+    private static String etag(FortuneResponse response) {
+        String content = response.getId() + "\n" + response.getCreatedAt() + "\n" + response.getResult();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.fortune.app.service;
+
+import com.fortune.app.enumerate.FortuneType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 운세 처리 파이프라인 메트릭
+ * 전체 처리 시간과 업스트림 호출 시간을 분리하여 OpenAI 지연과 애플리케이션 자체 오버헤드를 구분할 수 있도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class FortuneMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final ModelRouter modelRouter;
+
+    @Value("${fortune.openai.hedge.percentile:0.95}")
+    private double hedgePercentile;
+
+    /**
+     * analyzeFortune 전체 처리 시간 (outcome: success, degraded, error)
+     */
+    public void recordAnalyze(FortuneType fortuneType, String outcome, long elapsedNanos) {
+        Timer.builder("fortune.analyze")
+                .description("운세 해석 전체 처리 시간")
+                .tags("type", fortuneType.name(), "model", modelRouter.primary(fortuneType).model(), "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * OpenAI 호출 1회의 응답 시간 (재시도, 헤지 요청은 각각 기록)
+     */
+    public void recordUpstreamCall(FortuneType fortuneType, String model, String outcome, long elapsedNanos) {
+        Timer.builder("fortune.openai.call")
+                .description("OpenAI API 호출 시간")
+                .tags("type", fortuneType.name(), "model", model, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPromptRender(FortuneType fortuneType, long elapsedNanos) {
+        Timer.builder("fortune.prompt.render")
+                .description("프롬프트 렌더링 시간")
+                .tags("type", fortuneType.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRetry(FortuneType fortuneType) {
+        Counter.builder("fortune.openai.retries")
+                .description("OpenAI 호출 재시도 횟수")
+                .tags("type", fortuneType.name(), "model", modelRouter.primary(fortuneType).model())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 응답 길이와 토큰 사용량 (usage 메타데이터가 있는 경우)
+     */
+    public void recordResponse(FortuneType fortuneType, String model, ChatResponse response, int length) {
+        DistributionSummary.builder("fortune.openai.response.length")
+                .description("OpenAI 응답 길이 (글자 수)")
+                .baseUnit("characters")
+                .tags("type", fortuneType.name(), "model", model)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(length);
+
+        Usage usage = response.getMetadata() != null ? response.getMetadata().getUsage() : null;
+        if (usage == null) {
+            return;
+        }
+        recordTokens(fortuneType, model, "prompt", usage.getPromptTokens());
+        recordTokens(fortuneType, model, "completion", usage.getGenerationTokens());
+    }
+
+    /**
+     * OpenAI 호출 실패가 타임아웃이면 종류별로 기록
+     * (connect: 연결, read: 응답 읽기 간격, overall: 동기 호출 전체, pool: 연결 풀 대기)
+     */
+    public void recordTimeout(FortuneType fortuneType, String model, Throwable error) {
+        String kind = timeoutKind(error);
+        if (kind == null) {
+            return;
+        }
+        Counter.builder("fortune.openai.timeouts")
+                .description("OpenAI 호출 타임아웃 수")
+                .tags("type", fortuneType.name(), "model", model, "kind", kind)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String timeoutKind(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof ConnectTimeoutException) {
+                return "connect";
+            }
+            if (current instanceof ReadTimeoutException) {
+                return "read";
+            }
+            if (current instanceof TimeoutException || (current instanceof IllegalStateException
+                    && current.getMessage() != null && current.getMessage().startsWith("Timeout on blocking read"))) {
+                return "overall";
+            }
+            if (current.getClass().getSimpleName().equals("PoolAcquireTimeoutException")) {
+                return "pool";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 스트리밍 호출의 첫 토큰 수신 시간 (헤지 요청 시점 계산에 사용)
+     */
+    public Timer firstTokenTimer(FortuneType fortuneType, String model) {
+        return Timer.builder("fortune.openai.first-token")
+                .description("OpenAI 스트리밍 호출의 첫 토큰 수신 시간")
+                .tags("type", fortuneType.name(), "model", model)
+                .publishPercentiles(hedgePercentile)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 헤지 요청 (result: fired, won, lost)
+     */
+    public void recordHedge(FortuneType fortuneType, String result) {
+        Counter.builder("fortune.openai.hedge")
+                .description("OpenAI 헤지 요청 수")
+                .tags("type", fortuneType.name(), "result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordTokens(FortuneType fortuneType, String model, String kind, Long tokens) {
+        if (tokens == null || tokens <= 0) {
+            return;
+        }
+        Counter.builder("fortune.openai.tokens")
+                .description("OpenAI 토큰 사용량")
+                .baseUnit("tokens")
+                .tags("type", fortuneType.name(), "model", model, "kind", kind)
+                .register(meterRegistry)
+                .increment(tokens);
+    }
+}
@@ -0,0 +1,82 @@
+package com.fortune.app.service;
+
+import com.fortune.app.config.FortuneExecutionProperties;
+import com.fortune.app.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 운세 요청 실행기
+ * ASYNC 모드에서는 요청마다 가상 스레드를 사용하여 LLM 응답 대기 중에도 서블릿 스레드를 점유하지 않음
+ */
+@Component
+@Slf4j
+public class FortuneRequestExecutor {
+
+    private final FortuneExecutionProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+
+    public FortuneRequestExecutor(FortuneExecutionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxInFlight());
+
+        Gauge.builder("fortune.requests.in-flight", permits,
+                        semaphore -> properties.getMaxInFlight() - semaphore.availablePermits())
+                .description("처리 중인 운세 요청 수")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (properties.getMode() == FortuneExecutionProperties.Mode.BLOCKING) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+
+        if (!permits.tryAcquire()) {
+            log.warn("동시 처리 요청 수 초과 - 상한: {}", properties.getMaxInFlight());
+            throw new ServiceOverloadedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(task, executor)
+                    .whenComplete((result, error) -> permits.release());
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new ServiceOverloadedException("요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 스트리밍 요청에도 같은 동시 처리 상한을 적용 (구독 시 허가를 얻고 스트림이 끝나거나 취소되면 반납)
+     * 상한을 넘으면 ServiceOverloadedException으로 실패하는 스트림을 반환
+     */
+    public <T> Flux<T> stream(Supplier<Flux<T>> task) {
+        if (properties.getMode() == FortuneExecutionProperties.Mode.BLOCKING) {
+            return Flux.defer(task);
+        }
+
+        return Flux.defer(() -> {
+            if (!permits.tryAcquire()) {
+                log.warn("동시 처리 요청 수 초과 - 상한: {}", properties.getMaxInFlight());
+                return Flux.error(new ServiceOverloadedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+            }
+            return Flux.defer(task).doFinally(signal -> permits.release());
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
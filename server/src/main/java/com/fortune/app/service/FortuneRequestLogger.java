@@ -0,0 +1,109 @@
+package com.fortune.app.service;
+
+import com.fortune.app.cache.FortuneCacheKey;
+import com.fortune.app.config.FortuneLoggingProperties;
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.enumerate.FortuneType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 단위 구조화 로그
+ * 요청마다 key=value 형식의 이벤트 1건만 남기고, 생년월일/성별/생시 대신 프로필 해시의 HMAC 앞부분을 기록
+ * 프롬프트와 응답 본문은 설정한 비율만큼만 날짜/시각을 가려서 기록
+ * 사주 원국/오행 분포는 생년월일시를 그대로 담고 있으므로 프롬프트에서 해당 줄을 빼고 기록
+ */
+@Component
+public class FortuneRequestLogger {
+
+    private static final Logger EVENTS = LoggerFactory.getLogger("fortune.request");
+    private static final Logger BODIES = LoggerFactory.getLogger("fortune.body");
+
+    private static final Pattern DATE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}|\\d{4}년\\s*\\d{1,2}월\\s*\\d{1,2}일");
+    private static final Pattern TIME = Pattern.compile("\\d{1,2}시\\s*\\d{1,2}분|\\b\\d{1,2}:\\d{2}\\b");
+    private static final Pattern PROFILE_LINE = Pattern.compile("(?m)^.*(?:사주 원국|오행 분포)\\s*:.*(?:\\R|$)");
+
+    private static final String HMAC = "HmacSHA256";
+    private static final int PROFILE_TOKEN_BYTES = 6;
+
+    private final double bodySampleRate;
+    private final SecretKeySpec profileKey;
+
+    public FortuneRequestLogger(FortuneLoggingProperties properties) {
+        this.bodySampleRate = properties.getBodySampleRate();
+        byte[] key = properties.getProfileKey().isBlank()
+                ? randomKey()
+                : properties.getProfileKey().getBytes(StandardCharsets.UTF_8);
+        this.profileKey = new SecretKeySpec(key, HMAC);
+    }
+
+    /**
+     * 요청 처리 결과 이벤트 (mode: sync/stream, outcome: success/degraded/error/cancelled)
+     */
+    public void logRequest(AnalyzeFortuneRequest request, String mode, String outcome, long elapsedNanos) {
+        if (!EVENTS.isInfoEnabled()) {
+            return;
+        }
+        EVENTS.info("type={} format={} mode={} outcome={} durationMs={} profile={}",
+                request.getFortuneType(), request.getOutputFormat(), mode, outcome,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), profileToken(request));
+    }
+
+    /**
+     * 이번 요청의 본문을 기록할지 결정 (스트리밍은 구독 시점에 한 번 결정한 뒤 완료 시 기록)
+     */
+    public boolean sampleBody() {
+        return bodySampleRate > 0 && BODIES.isInfoEnabled()
+                && ThreadLocalRandom.current().nextDouble() < bodySampleRate;
+    }
+
+    public void logBody(FortuneType fortuneType, String model, Prompt prompt, String response) {
+        BODIES.info("type={} model={} prompt=\"{}\" response=\"{}\"",
+                fortuneType, model, redactPrompt(prompt.getContents()), redact(response));
+    }
+
+    /**
+     * 프로필 해시의 HMAC 앞 6바이트 (키 없이 생년월일 후보를 대입해 역산할 수 없도록)
+     */
+    String profileToken(AnalyzeFortuneRequest request) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(profileKey);
+            byte[] digest = mac.doFinal(FortuneCacheKey.of(request).profileHash().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, PROFILE_TOKEN_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String redactPrompt(String prompt) {
+        return redact(prompt != null ? PROFILE_LINE.matcher(prompt).replaceAll("") : null);
+    }
+
+    private static String redact(String text) {
+        if (text == null) {
+            return "";
+        }
+        String redacted = DATE.matcher(text).replaceAll("****-**-**");
+        redacted = TIME.matcher(redacted).replaceAll("**:**");
+        return redacted.replace("\n", "\\n");
+    }
+
+    private static byte[] randomKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+}
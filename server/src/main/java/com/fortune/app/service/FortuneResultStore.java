@@ -0,0 +1,271 @@
+package com.fortune.app.service;
+
+import com.fortune.app.cache.DailyFortuneCache;
+import com.fortune.app.cache.FortuneCacheKey;
+import com.fortune.app.cache.SajuFortuneCache;
+import com.fortune.app.config.FortuneStoreProperties;
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.OutputFormat;
+import com.fortune.app.enumerate.SiJin;
+import com.fortune.app.prompt.PromptTemplateRegistry;
+import com.fortune.app.repository.FortuneResultRecord;
+import com.fortune.app.repository.FortuneResultRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 운세 결과 영구 저장소 (캐시 다음 단계의 조회 계층)
+ * 저장은 대기열에 넣기만 하고 별도 스레드가 모아서 일괄 저장하므로 요청 처리 시간에 영향을 주지 않음
+ * 시작 시 현재 프롬프트 버전의 (TEXT 형식) 결과로 캐시를 채움
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FortuneResultStore {
+
+    private final FortuneResultRepository fortuneResultRepository;
+    private final PromptTemplateRegistry promptTemplateRegistry;
+    private final SajuFortuneCache sajuFortuneCache;
+    private final DailyFortuneCache dailyFortuneCache;
+    private final FortuneStoreProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private BlockingQueue<FortuneResultRecord> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private Counter flushedCounter;
+    private Counter droppedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        flushedCounter = writeCounter("flushed");
+        droppedCounter = writeCounter("dropped");
+        failedCounter = writeCounter("failed");
+        Gauge.builder("fortune.store.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 운세 결과 수")
+                .register(meterRegistry);
+
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("fortune-result-writer").daemon().start(this::writeLoop);
+    }
+
+    /**
+     * 종료 시 대기열에 남은 결과까지 저장
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(properties.getFlushInterval().multipliedBy(5).toMillis());
+        }
+    }
+
+    /**
+     * 저장된 결과가 있으면 반환하고, 없으면 generator로 생성한 뒤 저장 대기열에 추가
+     */
+    public String getOrGenerate(AnalyzeFortuneRequest request, LocalDate date, Supplier<String> generator) {
+        return find(request, date).orElseGet(() -> {
+            String result = generator.get();
+            save(request, date, result);
+            return result;
+        });
+    }
+
+    /**
+     * 저장된 결과 조회 (날짜 단위 운세가 아니면 date를 무시)
+     * 저장소 장애 시에는 결과가 없는 것으로 취급
+     */
+    public Optional<String> find(AnalyzeFortuneRequest request, LocalDate date) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        FortuneCacheKey key = FortuneCacheKey.of(request);
+        try {
+            Optional<String> stored = fortuneResultRepository.findResult(key.profileHash(), key.fortuneType(),
+                    promptTemplateRegistry.getVersion(key.fortuneType(), key.outputFormat()), storedDate(key.fortuneType(), date));
+            stored.ifPresent(result -> log.debug("저장된 운세 결과 사용 - 타입: {}", key.fortuneType()));
+            return stored;
+        } catch (DataAccessException e) {
+            log.warn("운세 결과 저장소 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 저장된 결과를 다시 조회할 수 있는 ID (저장소 비활성화 시 null)
+     * 타로는 종합 해석만 TEXT 형식으로 저장하므로 TEXT 프롬프트 버전을 사용하고, 결과 형식은 렌더링용으로만 담음
+     */
+    public String idOf(AnalyzeFortuneRequest request, LocalDate date) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        FortuneCacheKey key = FortuneCacheKey.of(request);
+        OutputFormat storedFormat = key.fortuneType() == FortuneType.TAROT ? OutputFormat.TEXT : key.outputFormat();
+        return FortuneId.of(key, promptTemplateRegistry.getVersion(key.fortuneType(), storedFormat), date).encode();
+    }
+
+    /**
+     * ID로 저장된 결과 조회 (이전 프롬프트 버전의 결과도 반환)
+     * 저장은 비동기이므로 생성 직후 flush 전까지는 결과가 없을 수 있음
+     */
+    public Optional<FortuneResultRecord> findById(FortuneId id) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        try {
+            return fortuneResultRepository.findRecord(id.profileHash(), id.fortuneType(), id.promptVersion(), id.date());
+        } catch (DataAccessException e) {
+            log.warn("운세 결과 저장소 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 저장 대기열에 추가 (대기열이 가득 차면 버림)
+     */
+    public void save(AnalyzeFortuneRequest request, LocalDate date, String result) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        FortuneCacheKey key = FortuneCacheKey.of(request);
+        FortuneResultRecord record = new FortuneResultRecord(
+                key.profileHash(),
+                key.fortuneType(),
+                promptTemplateRegistry.getVersion(key.fortuneType(), key.outputFormat()),
+                storedDate(key.fortuneType(), date),
+                key.gender(),
+                key.birthDate(),
+                SiJin.from(request.getBirthTime()),
+                result,
+                LocalDateTime.now()
+        );
+
+        if (!queue.offer(record)) {
+            droppedCounter.increment();
+            log.warn("운세 결과 저장 대기열이 가득 차 저장을 건너뜀 - 타입: {}", key.fortuneType());
+        }
+    }
+
+    /**
+     * 현재 프롬프트 버전의 사주 결과와 오늘 이후의 오늘의 운세 결과로 캐시 워밍 (각각 최신순으로 warm-up-limit건까지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try {
+            List<FortuneResultRecord> saju = fortuneResultRepository.findRecent(FortuneType.SAJU,
+                    promptTemplateRegistry.getVersion(FortuneType.SAJU), FortuneResultRepository.UNDATED,
+                    properties.getWarmUpLimit());
+            for (FortuneResultRecord record : saju) {
+                FortuneCacheKey key = FortuneCacheKey.of(toRequest(record));
+                if (key.profileHash().equals(record.profileHash())) {
+                    sajuFortuneCache.putLocal(key, record.result());
+                }
+            }
+
+            List<FortuneResultRecord> daily = fortuneResultRepository.findRecent(FortuneType.DAILY,
+                    promptTemplateRegistry.getVersion(FortuneType.DAILY), dailyFortuneCache.today(),
+                    properties.getWarmUpLimit());
+            for (FortuneResultRecord record : daily) {
+                AnalyzeFortuneRequest request = toRequest(record);
+                if (FortuneCacheKey.of(request).profileHash().equals(record.profileHash())) {
+                    dailyFortuneCache.putLocal(record.fortuneDate(), request, record.result());
+                }
+            }
+
+            log.info("운세 결과 저장소에서 캐시 워밍 완료 - 사주: {}건, 오늘의 운세: {}건", saju.size(), daily.size());
+        } catch (DataAccessException e) {
+            log.warn("운세 결과 저장소 캐시 워밍 실패: {}", e.getMessage());
+        }
+    }
+
+    private void writeLoop() {
+        List<FortuneResultRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                FortuneResultRecord first = queue.poll(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<FortuneResultRecord> batch) {
+        try {
+            fortuneResultRepository.saveAll(batch);
+            flushedCounter.increment(batch.size());
+            log.debug("운세 결과 일괄 저장 - {}건", batch.size());
+        } catch (DataAccessException e) {
+            failedCounter.increment(batch.size());
+            log.warn("운세 결과 일괄 저장 실패 - {}건, 원인: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private Counter writeCounter(String result) {
+        return Counter.builder("fortune.store.writes")
+                .description("운세 결과 저장 처리 건수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static LocalDate storedDate(FortuneType fortuneType, LocalDate date) {
+        return fortuneType.isDated() ? date : FortuneResultRepository.UNDATED;
+    }
+
+    /**
+     * 저장된 프로필을 캐시 키 생성용 요청으로 복원 (생시는 시진의 시작 시각)
+     * 절입일에는 복원한 생시의 팔자가 원래 팔자와 다를 수 있으므로 프로필 해시가 같은 경우에만 사용
+     */
+    private static AnalyzeFortuneRequest toRequest(FortuneResultRecord record) {
+        AnalyzeFortuneRequest request = new AnalyzeFortuneRequest();
+        request.setFortuneType(record.fortuneType());
+        request.setGender(record.gender());
+        request.setBirthDate(record.birthDate());
+        if (record.siJin() != null) {
+            request.setBirthTime(String.format("%02d:00", record.siJin().ordinal() * 2));
+        }
+        return request;
+    }
+}
@@ -1,14 +1,27 @@
 package com.fortune.app.service;
 
+import com.fortune.app.cache.DailyFortuneCache;
+import com.fortune.app.cache.FortuneCacheKey;
+import com.fortune.app.cache.SajuFortuneCache;
 import com.fortune.app.dto.AnalyzeFortuneRequest;
 import com.fortune.app.dto.FortuneResponse;
+import com.fortune.app.exception.OpenAIException;
+import com.fortune.app.exception.OpenAIRateLimitException;
+import com.fortune.app.tarot.TarotReading;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -16,31 +29,247 @@ import java.time.format.DateTimeParseException;
 public class FortuneService {
     
     private final OpenAIService openAIService;
+    private final SajuFortuneCache sajuFortuneCache;
+    private final DailyFortuneCache dailyFortuneCache;
+    private final FallbackFortuneRenderer fallbackFortuneRenderer;
+    private final FortuneMetrics fortuneMetrics;
+    private final FortuneResultStore fortuneResultStore;
+    private final TarotService tarotService;
+    private final FortuneRequestLogger fortuneRequestLogger;
+    
+    @Value("${fortune.fallback.enabled:true}")
+    private boolean fallbackEnabled;
     
     /**
      * 통합 운세 해석 서비스
      */
     public FortuneResponse analyzeFortune(AnalyzeFortuneRequest request) {
-        log.info("운세 해석 요청 처리 시작 - 타입: {}, 생년월일: {}", request.getFortuneType(), request.getBirthDate());
-        
+        long startTime = System.nanoTime();
+        String outcome = "error";
+        try {
+            FortuneResponse response = doAnalyzeFortune(request);
+            outcome = response.isDegraded() ? "degraded" : "success";
+            return response;
+        } finally {
+            long elapsed = System.nanoTime() - startTime;
+            fortuneMetrics.recordAnalyze(request.getFortuneType(), outcome, elapsed);
+            fortuneRequestLogger.logRequest(request, "sync", outcome, elapsed);
+        }
+    }
+    
+    private FortuneResponse doAnalyzeFortune(AnalyzeFortuneRequest request) {
         // 입력 데이터 검증
         validateBirthInfo(request);
 
         String fortuneResult;
+        try {
+            switch (request.getFortuneType()) {
+                case SAJU -> fortuneResult = sajuFortuneCache.get(
+                        FortuneCacheKey.of(request), () -> fortuneResultStore.getOrGenerate(
+                                request, null, () -> openAIService.getSajuFortune(request)));
+                case DAILY -> fortuneResult = dailyFortuneCache.get(
+                        request, date -> fortuneResultStore.getOrGenerate(
+                                request, date, () -> openAIService.getDailyFortune(request, date)));
+                case TAROT -> fortuneResult = tarotService.analyze(request);
+                default -> throw new IllegalArgumentException("지원하지 않는 운세 타입입니다: " + request.getFortuneType());
+            }
+        } catch (CallNotPermittedException | OpenAIException e) {
+            return fallback(request, e);
+        }
+        
+        FortuneResponse response = FortuneResponse.of(request.getFortuneType().getValue(), fortuneResult);
+        response.setId(resultId(request));
+        return response;
+    }
+    
+    /**
+     * 생성된 결과를 GET /fortune/{id}로 다시 조회할 수 있는 ID (저장소 비활성화 시 null)
+     */
+    public String resultId(AnalyzeFortuneRequest request) {
+        return fortuneResultStore.idOf(request, dailyFortuneCache.today());
+    }
+    
+    /**
+     * OpenAI 장애(서킷 오픈 또는 재시도 실패) 시 대체 결과 반환
+     * 사주는 이전에 생성된 결과를, 없거나 오늘의 운세라면 로컬에서 생성한 간이 결과를,
+     * 타로는 종합 해석 없이 카드 결과만 degraded 표시와 함께 반환
+     * 요청 한도 초과(429)는 클라이언트가 Retry-After에 따라 재시도하도록 그대로 전파
+     */
+    private FortuneResponse fallback(AnalyzeFortuneRequest request, RuntimeException cause) {
+        if (!canFallBack(cause)) {
+            throw cause;
+        }
+        
+        log.warn("OpenAI 장애로 대체 결과 반환 - 타입: {}, 원인: {}", request.getFortuneType(), cause.getMessage());
+        
+        return FortuneResponse.degraded(request.getFortuneType().getValue(), fallbackResult(request, cause));
+    }
+    
+    private boolean canFallBack(Throwable cause) {
+        return fallbackEnabled && (cause instanceof OpenAIException || cause instanceof CallNotPermittedException)
+                && OpenAIRateLimitException.findIn(cause) == null;
+    }
+    
+    private String fallbackResult(AnalyzeFortuneRequest request, RuntimeException cause) {
+        return switch (request.getFortuneType()) {
+            case SAJU -> {
+                String stale = sajuFortuneCache.getStale(FortuneCacheKey.of(request));
+                yield stale != null ? stale : fallbackFortuneRenderer.renderSaju(request);
+            }
+            case DAILY -> fallbackFortuneRenderer.renderDaily(request, dailyFortuneCache.today());
+            case TAROT -> tarotService.renderWithoutSynthesis(request);
+            default -> throw cause;
+        };
+    }
+    
+    /**
+     * 통합 운세 해석 스트리밍 서비스
+     * 캐시 또는 저장소에 결과가 있으면 한 번에 전달하고, 없으면 모델 응답을 토큰 단위로 전달한 뒤 완료 시 캐시와 저장소에 저장
+     * 입력 검증과 캐시/저장소 조회도 구독 시점에 boundedElastic 스케줄러에서 수행하므로 요청 스레드를 붙잡지 않고,
+     * 검증 실패도 스트림의 오류로 전달되어 요청 로그에 남음
+     * 사주/오늘의 운세는 첫 조각을 받기 전에 OpenAI 장애가 나면 동기 요청과 같은 대체 결과를 전달하고 onDegraded를 호출
+     */
+    public Flux<String> streamFortune(AnalyzeFortuneRequest request, Runnable onDegraded) {
+        long startTime = System.nanoTime();
+        AtomicBoolean degraded = new AtomicBoolean();
+        Runnable markDegraded = () -> {
+            degraded.set(true);
+            onDegraded.run();
+        };
+        return Flux.defer(() -> doStreamFortune(request, markDegraded))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFinally(signal -> fortuneRequestLogger.logRequest(request, "stream",
+                switch (signal) {
+                    case ON_COMPLETE -> degraded.get() ? "degraded" : "success";
+                    case ON_ERROR -> "error";
+                    default -> "cancelled";
+                }, System.nanoTime() - startTime));
+    }
+    
+    private Flux<String> doStreamFortune(AnalyzeFortuneRequest request, Runnable onDegraded) {
+        // 입력 데이터 검증
+        validateBirthInfo(request);
+        
         switch (request.getFortuneType()) {
-            case SAJU -> fortuneResult = openAIService.getSajuFortune(request);
-            case DAILY -> fortuneResult = openAIService.getDailyFortune(request);
-            case TAROT -> throw new UnsupportedOperationException("타로 서비스는 준비 중입니다.");
+            case SAJU -> {
+                FortuneCacheKey key = FortuneCacheKey.of(request);
+                String cached = sajuFortuneCache.getIfPresent(key);
+                if (cached != null) {
+                    return Flux.just(cached);
+                }
+                Optional<String> stored = fortuneResultStore.find(request, null);
+                if (stored.isPresent()) {
+                    sajuFortuneCache.put(key, stored.get());
+                    return Flux.just(stored.get());
+                }
+                Flux<String> generated = cacheOnComplete(openAIService.streamSajuFortune(request), result -> {
+                    sajuFortuneCache.put(key, result);
+                    fortuneResultStore.save(request, null, result);
+                });
+                return withFallback(request, onDegraded, generated);
+            }
+            case DAILY -> {
+                LocalDate today = dailyFortuneCache.today();
+                String cached = dailyFortuneCache.getIfPresent(today, request);
+                if (cached != null) {
+                    return Flux.just(cached);
+                }
+                Optional<String> stored = fortuneResultStore.find(request, today);
+                if (stored.isPresent()) {
+                    dailyFortuneCache.put(today, request, stored.get());
+                    return Flux.just(stored.get());
+                }
+                Flux<String> generated = cacheOnComplete(openAIService.streamDailyFortune(request, today), result -> {
+                    dailyFortuneCache.put(today, request, result);
+                    fortuneResultStore.save(request, today, result);
+                });
+                return withFallback(request, onDegraded, generated);
+            }
+            case TAROT -> {
+                return streamTarot(request);
+            }
             default -> throw new IllegalArgumentException("지원하지 않는 운세 타입입니다: " + request.getFortuneType());
         }
+    }
+    
+    /**
+     * 로컬에서 뽑은 카드 결과를 즉시 전달한 뒤 종합 해석을 이어서 전달
+     * OpenAI 장애로 종합 해석을 받지 못하면 안내 문구로 대신하고 정상 종료
+     */
+    private Flux<String> streamTarot(AnalyzeFortuneRequest request) {
+        TarotReading reading = tarotService.draw(request);
+        Flux<String> cards = Flux.just(tarotService.renderCards(reading));
+        if (!tarotService.isSynthesisEnabled()) {
+            return cards;
+        }
         
-        return FortuneResponse.of(request.getFortuneType().getValue(), fortuneResult);
+        AnalyzeFortuneRequest synthesisRequest = TarotService.synthesisRequest(request);
+        LocalDate date = reading.date();
+        Flux<String> synthesis;
+        String cached = dailyFortuneCache.getIfPresent(date, synthesisRequest);
+        Optional<String> stored = cached == null ? fortuneResultStore.find(synthesisRequest, date) : Optional.empty();
+        if (cached != null) {
+            synthesis = Flux.just(cached);
+        } else if (stored.isPresent()) {
+            dailyFortuneCache.put(date, synthesisRequest, stored.get());
+            synthesis = Flux.just(stored.get());
+        } else {
+            synthesis = cacheOnComplete(openAIService.streamTarotSynthesis(synthesisRequest, reading), result -> {
+                dailyFortuneCache.put(date, synthesisRequest, result);
+                fortuneResultStore.save(synthesisRequest, date, result);
+            });
+        }
+        
+        return cards
+                .concatWith(Flux.just(TarotService.SYNTHESIS_HEADER))
+                .concatWith(synthesis.onErrorResume(
+                        e -> fallbackEnabled && (e instanceof OpenAIException || e instanceof CallNotPermittedException),
+                        e -> {
+                            log.warn("OpenAI 장애로 타로 종합 해석 생략 - 원인: {}", e.getMessage());
+                            return Flux.just(TarotService.SYNTHESIS_UNAVAILABLE);
+                        }));
+    }
+    
+    /**
+     * 첫 조각을 받기 전에 OpenAI 장애(서킷 오픈 또는 재시도 실패)로 실패하면 동기 요청과 같은 대체 결과를 한 번에 전달
+     * 이미 일부를 전달한 뒤의 실패는 이어 붙일 수 없으므로 그대로 전파하고, 대체 결과는 캐시나 저장소에 저장하지 않음
+     */
+    private Flux<String> withFallback(AnalyzeFortuneRequest request, Runnable onDegraded, Flux<String> chunks) {
+        return Flux.defer(() -> {
+            AtomicBoolean emitted = new AtomicBoolean();
+            return chunks
+                    .doOnNext(chunk -> emitted.set(true))
+                    .onErrorResume(e -> !emitted.get() && canFallBack(e), e -> {
+                        log.warn("OpenAI 장애로 대체 결과 스트리밍 - 타입: {}, 원인: {}", request.getFortuneType(), e.getMessage());
+                        onDegraded.run();
+                        return Flux.just(fallbackResult(request, (RuntimeException) e));
+                    });
+        });
+    }
+    
+    /**
+     * 스트림이 끝까지 완료된 경우에만 전체 결과를 저장 (중간에 취소되거나 빈 응답으로 끝나면 저장하지 않음)
+     */
+    private Flux<String> cacheOnComplete(Flux<String> chunks, Consumer<String> store) {
+        return Flux.defer(() -> {
+            StringBuilder buffer = new StringBuilder();
+            return chunks
+                    .doOnNext(buffer::append)
+                    .doOnComplete(() -> {
+                        String result = buffer.toString();
+                        if (result.isBlank()) {
+                            log.warn("스트리밍 응답이 비어 있어 결과를 저장하지 않음");
+                            return;
+                        }
+                        store.accept(result);
+                    });
+        });
     }
     
     /**
      * 생년월일 및 생시 유효성 검증
      */
-    private void validateBirthInfo(AnalyzeFortuneRequest request) {
+    static void validateBirthInfo(AnalyzeFortuneRequest request) {
         // 생년월일 형식 및 유효성 검증
         try {
             LocalDate birthDate = LocalDate.parse(request.getBirthDate(), DateTimeFormatter.ISO_LOCAL_DATE);
@@ -0,0 +1,135 @@
+package com.fortune.app.service;
+
+import com.fortune.app.exception.OpenAIException;
+import org.springframework.ai.chat.model.ChatResponse;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 헤지 요청 한 건의 진행 상태
+ * 각 호출(leg)의 스트리밍 응답을 모으고, 먼저 완료된 호출을 결과로 사용하며 모든 호출이 실패한 경우에만 실패
+ * 결과가 정해진 뒤 cancel()로 나머지 호출을 취소 (구독 취소 시 업스트림 HTTP 요청도 취소됨)
+ */
+final class HedgedChatCall {
+
+    private final CompletableFuture<Leg> winner = new CompletableFuture<>();
+    private final CompletableFuture<Void> firstToken = new CompletableFuture<>();
+    private final List<Leg> legs = new CopyOnWriteArrayList<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * 호출 시작 (첫 번째 호출이 주 호출, 이후 호출은 헤지 요청)
+     */
+    void start(String model, Flux<ChatResponse> responses) {
+        Leg leg = new Leg(model, !legs.isEmpty());
+        legs.add(leg);
+        pending.incrementAndGet();
+        leg.subscription = responses.subscribe(
+                response -> {
+                    leg.append(response);
+                    firstToken.complete(null);
+                },
+                error -> {
+                    leg.error = error;
+                    if (pending.decrementAndGet() == 0) {
+                        winner.completeExceptionally(legs.get(0).error != null ? legs.get(0).error : error);
+                    }
+                },
+                () -> winner.complete(leg));
+    }
+
+    /**
+     * 지정한 시간 안에 첫 토큰을 받았거나 호출이 끝났으면 true
+     */
+    boolean awaitFirstToken(Duration timeout) {
+        try {
+            CompletableFuture.anyOf(firstToken, winner).get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+
+    /**
+     * 먼저 완료된 호출 결과 (모두 실패하면 주 호출의 예외)
+     * timeout 안에 완료된 호출이 없으면 모든 호출을 취소하고 OpenAIException으로 실패
+     */
+    Leg await(Duration timeout) {
+        try {
+            return winner.get(Math.max(0, timeout.toNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            cancel();
+            throw new OpenAIException("OpenAI 응답 대기 시간을 초과했습니다 (" + timeout.toMillis() + "ms)", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new OpenAIException("OpenAI API 호출 중 오류가 발생했습니다: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw new OpenAIException("OpenAI 응답 대기 중 중단되었습니다", e);
+        }
+    }
+
+    void cancel() {
+        for (Leg leg : legs) {
+            if (leg.subscription != null) {
+                leg.subscription.dispose();
+            }
+        }
+    }
+
+    static final class Leg {
+
+        private final String model;
+        private final boolean hedge;
+        private final StringBuilder content = new StringBuilder();
+        private volatile ChatResponse lastResponse;
+        private volatile Throwable error;
+        private volatile Disposable subscription;
+
+        private Leg(String model, boolean hedge) {
+            this.model = model;
+            this.hedge = hedge;
+        }
+
+        private void append(ChatResponse response) {
+            lastResponse = response;
+            if (response.getResult() != null && response.getResult().getOutput() != null
+                    && response.getResult().getOutput().getContent() != null) {
+                content.append(response.getResult().getOutput().getContent());
+            }
+        }
+
+        String model() {
+            return model;
+        }
+
+        boolean isHedge() {
+            return hedge;
+        }
+
+        String content() {
+            return content.toString();
+        }
+
+        ChatResponse lastResponse() {
+            return lastResponse;
+        }
+    }
+}
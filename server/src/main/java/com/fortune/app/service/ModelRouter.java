@@ -0,0 +1,72 @@
+package com.fortune.app.service;
+
+import com.fortune.app.config.OpenAIProperties;
+import com.fortune.app.enumerate.FortuneType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.ResponseFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운세 타입별 모델 라우팅
+ * 짧은 오늘의 운세와 긴 사주 해석에 서로 다른 모델/옵션을 사용할 수 있도록 fortune.openai.routes 설정을 해석
+ */
+@Component
+@RequiredArgsConstructor
+public class ModelRouter {
+
+    private final OpenAIProperties properties;
+
+    @Value("${spring.ai.openai.chat.options.model:gpt-3.5-turbo}")
+    private String defaultModel;
+
+    @Value("${spring.ai.openai.chat.options.max-tokens:1600}")
+    private Integer defaultMaxTokens;
+
+    @Value("${spring.ai.openai.chat.options.temperature:0.7}")
+    private Double defaultTemperature;
+
+    /**
+     * 주 호출에 사용할 모델
+     */
+    public ModelRoute primary(FortuneType fortuneType) {
+        OpenAIProperties.Route route = properties.getRoutes().get(fortuneType);
+        if (route == null) {
+            return new ModelRoute(defaultModel, defaultMaxTokens, defaultTemperature);
+        }
+        return new ModelRoute(
+                route.getModel() != null ? route.getModel() : defaultModel,
+                route.getMaxTokens() != null ? route.getMaxTokens() : defaultMaxTokens,
+                route.getTemperature() != null ? route.getTemperature() : defaultTemperature);
+    }
+
+    /**
+     * 헤지 요청에 사용할 모델 (보조 모델이 없으면 주 모델)
+     */
+    public ModelRoute hedge(FortuneType fortuneType) {
+        ModelRoute primary = primary(fortuneType);
+        OpenAIProperties.Route route = properties.getRoutes().get(fortuneType);
+        if (route == null || route.getHedgeModel() == null) {
+            return primary;
+        }
+        return new ModelRoute(route.getHedgeModel(), primary.maxTokens(), primary.temperature());
+    }
+
+    public record ModelRoute(String model, Integer maxTokens, Double temperature) {
+
+        /**
+         * 요청별 ChatOptions (responseFormat이 null이면 일반 텍스트 응답)
+         */
+        public OpenAiChatOptions toOptions(ResponseFormat responseFormat) {
+            OpenAiChatOptions.Builder builder = OpenAiChatOptions.builder()
+                    .withModel(model)
+                    .withMaxTokens(maxTokens)
+                    .withTemperature(temperature);
+            if (responseFormat != null) {
+                builder.withResponseFormat(responseFormat);
+            }
+            return builder.build();
+        }
+    }
+}
@@ -1,161 +1,505 @@
 package com.fortune.app.service;
 
+import com.fortune.app.config.OpenAIProperties;
 import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.OutputFormat;
 import com.fortune.app.exception.OpenAIException;
+import com.fortune.app.exception.OpenAIRateLimitException;
+import com.fortune.app.exception.PromptTemplateException;
+import com.fortune.app.exception.ServiceOverloadedException;
+import com.fortune.app.manse.ManseCalendar;
+import com.fortune.app.manse.SajuPillars;
+import com.fortune.app.prompt.PromptTemplateRegistry;
+import com.fortune.app.support.AdaptiveConcurrencyLimiter;
+import com.fortune.app.tarot.TarotReading;
+import com.fortune.app.support.OpenAIResponseErrorHandler;
+import com.fortune.app.support.SingleFlight;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.chat.prompt.PromptTemplate;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
+import org.springframework.ai.openai.api.ResponseFormat;
 import org.springframework.stereotype.Service;
-import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.RetryContext;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OpenAIService {
     
+    private static final DateTimeFormatter CURRENT_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 (E)", java.util.Locale.KOREAN);
+    
     private final ChatModel chatModel;
+    private final MeterRegistry meterRegistry;
+    private final PromptTemplateRegistry promptTemplateRegistry;
+    private final AdaptiveConcurrencyLimiter openAIConcurrencyLimiter;
+    private final CircuitBreakerRegistry openAICircuitBreakerRegistry;
+    private final FortuneMetrics fortuneMetrics;
+    private final ManseCalendar manseCalendar;
+    private final StructuredFortuneParser structuredFortuneParser;
+    private final ModelRouter modelRouter;
+    private final OpenAIProperties openAIProperties;
+    private final FortuneRequestLogger fortuneRequestLogger;
     
-    @Value("classpath:/prompts/saju-prompt.txt")
-    private Resource sajuPromptResource;
+    private final SingleFlight<String, String> inFlightCalls = new SingleFlight<>();
     
-    @Value("classpath:/prompts/daily-fortune-prompt.txt")
-    private Resource dailyFortunePromptResource;
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("fortune.openai.coalesced", inFlightCalls, SingleFlight::getCollapsedCount)
+                .description("동일 프롬프트 요청에 합쳐진 OpenAI 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("fortune.openai.in-flight", inFlightCalls, SingleFlight::getInFlightCount)
+                .description("진행 중인 OpenAI 호출 수")
+                .register(meterRegistry);
+    }
     
     /**
      * 사주 해석 요청을 ChatGPT API로 전송
      */
-    @Retryable(value = {OpenAIException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+    @Retryable(interceptor = "openAIRetryInterceptor")
     public String getSajuFortune(AnalyzeFortuneRequest request) {
+        recordRetryAttempt(FortuneType.SAJU);
         try {
-            String promptTemplate = loadPromptTemplate();
-            
-            Map<String, Object> variables = Map.of(
-                    "gender", request.getGender().getDescription(),
-                    "birthDate", request.getBirthDate(),
-                    "birthTime", formatBirthTime(request.getBirthTime())
-            );
+            Prompt prompt = createSajuPrompt(request);
             
-            PromptTemplate template = new PromptTemplate(promptTemplate, variables);
-            Prompt prompt = template.create();
+            String result = callChatModel(FortuneType.SAJU, request.getOutputFormat(), prompt);
+            if (request.getOutputFormat() == OutputFormat.JSON) {
+                structuredFortuneParser.validate(FortuneType.SAJU, result);
+            }
             
-            log.info("사주 해석 요청 - 생년월일: {}, 성별: {}", 
-                     request.getBirthDate(), request.getGender());
+            log.debug("사주 해석 응답 수신 완료 - 길이: {} 글자", result.length());
             
-            ChatResponse response = chatModel.call(prompt);
-            
-            if (response == null || response.getResult() == null || 
-                response.getResult().getOutput() == null) {
-                throw new OpenAIException("OpenAI API에서 유효하지 않은 응답을 받았습니다");
-            }
+            return result;
             
-            String result = response.getResult().getOutput().getContent();
+        } catch (CallNotPermittedException e) {
+            log.warn("OpenAI 서킷 오픈으로 호출 차단: {}", e.getMessage());
+            throw e;
+        } catch (PromptTemplateException e) {
+            throw e;
+        } catch (OpenAIException | ServiceOverloadedException e) {
+            log.error("OpenAI API 호출 중 오류 발생", e);
+            throw e;
+        } catch (Exception e) {
+            log.error("사주 해석 중 예상치 못한 오류 발생", e);
+            throw new OpenAIException("사주 해석 서비스 오류: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 지정한 날짜의 운세 해석 요청을 ChatGPT API로 전송
+     */
+    @Retryable(interceptor = "openAIRetryInterceptor")
+    public String getDailyFortune(AnalyzeFortuneRequest request, LocalDate date) {
+        recordRetryAttempt(FortuneType.DAILY);
+        try {
+            Prompt prompt = createDailyPrompt(request, date);
             
-            if (result == null || result.trim().isEmpty()) {
-                throw new OpenAIException("OpenAI API에서 빈 응답을 받았습니다");
+            String result = callChatModel(FortuneType.DAILY, request.getOutputFormat(), prompt);
+            if (request.getOutputFormat() == OutputFormat.JSON) {
+                structuredFortuneParser.validate(FortuneType.DAILY, result);
             }
             
-            log.info("사주 해석 응답 수신 완료 - 길이: {} 글자", result.length());
+            log.debug("오늘의 운세 해석 응답 수신 완료 - 길이: {} 글자", result.length());
             
             return result;
             
-        } catch (OpenAIException e) {
+        } catch (CallNotPermittedException e) {
+            log.warn("OpenAI 서킷 오픈으로 호출 차단: {}", e.getMessage());
+            throw e;
+        } catch (PromptTemplateException e) {
+            throw e;
+        } catch (OpenAIException | ServiceOverloadedException e) {
             log.error("OpenAI API 호출 중 오류 발생", e);
             throw e;
         } catch (Exception e) {
-            log.error("사주 해석 중 예상치 못한 오류 발생", e);
-            throw new OpenAIException("사주 해석 서비스 오류: " + e.getMessage(), e);
+            log.error("오늘의 운세 해석 중 예상치 못한 오류 발생", e);
+            throw new OpenAIException("오늘의 운세 해석 서비스 오류: " + e.getMessage(), e);
         }
     }
     
     /**
-     * 오늘의 운세 해석 요청을 ChatGPT API로 전송
+     * 뽑힌 타로 카드의 종합 해석 요청을 ChatGPT API로 전송 (카드와 의미는 로컬에서 결정)
      */
-    @Retryable(value = {OpenAIException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
-    public String getDailyFortune(AnalyzeFortuneRequest request) {
+    @Retryable(interceptor = "openAIRetryInterceptor")
+    public String getTarotSynthesis(AnalyzeFortuneRequest request, TarotReading reading) {
+        recordRetryAttempt(FortuneType.TAROT);
         try {
-            String promptTemplate = loadDailyFortunePromptTemplate();
+            Prompt prompt = createTarotPrompt(request, reading);
             
-            String currentDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 (E)", java.util.Locale.KOREAN));
+            String result = callChatModel(FortuneType.TAROT, OutputFormat.TEXT, prompt);
             
-            Map<String, Object> variables = Map.of(
-                    "currentDate", currentDate,
-                    "gender", request.getGender().getDescription(),
-                    "birthDate", request.getBirthDate(),
-                    "birthTime", formatBirthTime(request.getBirthTime())
-            );
+            log.debug("타로 종합 해석 응답 수신 완료 - 길이: {} 글자", result.length());
             
-            PromptTemplate template = new PromptTemplate(promptTemplate, variables);
-            Prompt prompt = template.create();
+            return result;
             
-            log.info("오늘의 운세 해석 요청 - 날짜: {}, 생년월일: {}, 성별: {}", 
-                     currentDate, request.getBirthDate(), request.getGender());
+        } catch (CallNotPermittedException e) {
+            log.warn("OpenAI 서킷 오픈으로 호출 차단: {}", e.getMessage());
+            throw e;
+        } catch (PromptTemplateException e) {
+            throw e;
+        } catch (OpenAIException | ServiceOverloadedException e) {
+            log.error("OpenAI API 호출 중 오류 발생", e);
+            throw e;
+        } catch (Exception e) {
+            log.error("타로 종합 해석 중 예상치 못한 오류 발생", e);
+            throw new OpenAIException("타로 해석 서비스 오류: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 사주 해석 응답을 토큰 단위로 스트리밍
+     */
+    public Flux<String> streamSajuFortune(AnalyzeFortuneRequest request) {
+        Prompt prompt = createSajuPrompt(request);
+        
+        return streamChatModel(FortuneType.SAJU, modelRouter.primary(FortuneType.SAJU).model(), prompt, "사주 해석");
+    }
+    
+    /**
+     * 지정한 날짜의 운세 해석 응답을 토큰 단위로 스트리밍
+     */
+    public Flux<String> streamDailyFortune(AnalyzeFortuneRequest request, LocalDate date) {
+        Prompt prompt = createDailyPrompt(request, date);
+        
+        return streamChatModel(FortuneType.DAILY, modelRouter.primary(FortuneType.DAILY).model(), prompt, "오늘의 운세 해석");
+    }
+    
+    /**
+     * 타로 종합 해석 응답을 토큰 단위로 스트리밍
+     */
+    public Flux<String> streamTarotSynthesis(AnalyzeFortuneRequest request, TarotReading reading) {
+        Prompt prompt = createTarotPrompt(request, reading);
+        
+        return streamChatModel(FortuneType.TAROT, modelRouter.primary(FortuneType.TAROT).model(), prompt, "타로 해석");
+    }
+    
+    /**
+     * 사주 프롬프트 생성
+     */
+    private Prompt createSajuPrompt(AnalyzeFortuneRequest request) {
+        SajuPillars pillars = manseCalendar.calculate(request);
+        
+        Map<String, Object> variables = Map.of(
+                "gender", request.getGender().getDescription(),
+                "birthDate", request.getBirthDate(),
+                "birthTime", formatBirthTime(request.getBirthTime()),
+                "pillars", pillars.formatPillars(),
+                "elements", pillars.formatElements()
+        );
+        
+        return renderPrompt(FortuneType.SAJU, request.getOutputFormat(), variables);
+    }
+    
+    /**
+     * 오늘의 운세 프롬프트 생성
+     */
+    private Prompt createDailyPrompt(AnalyzeFortuneRequest request, LocalDate date) {
+        String currentDate = date.format(CURRENT_DATE_FORMATTER);
+        
+        Map<String, Object> variables = Map.of(
+                "currentDate", currentDate,
+                "gender", request.getGender().getDescription(),
+                "birthDate", request.getBirthDate(),
+                "birthTime", formatBirthTime(request.getBirthTime())
+        );
+        
+        return renderPrompt(FortuneType.DAILY, request.getOutputFormat(), variables);
+    }
+    
+    /**
+     * 타로 종합 해석 프롬프트 생성 (항상 텍스트 형식)
+     */
+    private Prompt createTarotPrompt(AnalyzeFortuneRequest request, TarotReading reading) {
+        Map<String, Object> variables = Map.of(
+                "currentDate", reading.date().format(CURRENT_DATE_FORMATTER),
+                "gender", request.getGender().getDescription(),
+                "spread", reading.spread().getDescription() + " (" + String.join(", ", reading.spread().getPositions()) + ")",
+                "cards", reading.formatCards()
+        );
+        
+        return renderPrompt(FortuneType.TAROT, OutputFormat.TEXT, variables);
+    }
+    
+    /**
+     * 운세 타입에 라우팅된 모델/옵션으로 프롬프트 생성
+     * JSON 형식이면 운세 타입의 스키마를 response_format(json_schema)으로 지정
+     */
+    private Prompt renderPrompt(FortuneType fortuneType, OutputFormat outputFormat, Map<String, Object> variables) {
+        long startTime = System.nanoTime();
+        String text = promptTemplateRegistry.get(fortuneType, outputFormat).render(variables);
+        fortuneMetrics.recordPromptRender(fortuneType, System.nanoTime() - startTime);
+        
+        return new Prompt(text, modelRouter.primary(fortuneType).toOptions(responseFormat(fortuneType, outputFormat)));
+    }
+    
+    private ResponseFormat responseFormat(FortuneType fortuneType, OutputFormat outputFormat) {
+        return outputFormat == OutputFormat.JSON
+                ? new ResponseFormat(ResponseFormat.Type.JSON_SCHEMA, structuredFortuneParser.getSchema(fortuneType))
+                : null;
+    }
+    
+    /**
+     * @Retryable 재시도로 호출된 경우 재시도 횟수 기록
+     */
+    private void recordRetryAttempt(FortuneType fortuneType) {
+        RetryContext retryContext = RetrySynchronizationManager.getContext();
+        if (retryContext != null && retryContext.getRetryCount() > 0) {
+            fortuneMetrics.recordRetry(fortuneType);
+        }
+    }
+    
+    /**
+     * ChatModel 호출 및 응답 검증
+     * 동일한 프롬프트의 동시 요청은 하나의 API 호출로 합쳐서 결과(또는 예외)를 공유하며,
+     * 실패 시 각 호출자의 @Retryable 재시도가 다시 하나의 호출로 합쳐짐
+     */
+    private String callChatModel(FortuneType fortuneType, OutputFormat outputFormat, Prompt prompt) {
+        return inFlightCalls.execute(prompt.getContents(), () -> {
+            String model = modelRouter.primary(fortuneType).model();
+            // 보조 모델이 구조화 출력(json_schema)을 지원하지 않을 수 있으므로 JSON 응답은 헤지하지 않음
+            if (openAIProperties.getHedge().isEnabled() && outputFormat != OutputFormat.JSON) {
+                return callHedged(fortuneType, outputFormat, model, prompt);
+            }
             
-            ChatResponse response = chatModel.call(prompt);
+            ChatResponse response = callWithLimit(fortuneType, model, prompt);
             
             if (response == null || response.getResult() == null || 
                 response.getResult().getOutput() == null) {
                 throw new OpenAIException("OpenAI API에서 유효하지 않은 응답을 받았습니다");
             }
             
-            String result = response.getResult().getOutput().getContent();
+            return checkResult(fortuneType, model, prompt, response, response.getResult().getOutput().getContent());
+        });
+    }
+    
+    private String checkResult(FortuneType fortuneType, String model, Prompt prompt, ChatResponse response, String result) {
+        if (result == null || result.trim().isEmpty()) {
+            throw new OpenAIException("OpenAI API에서 빈 응답을 받았습니다");
+        }
+        
+        fortuneMetrics.recordResponse(fortuneType, model, response, result.length());
+        if (fortuneRequestLogger.sampleBody()) {
+            fortuneRequestLogger.logBody(fortuneType, model, prompt, result);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * 헤지 요청
+     * 주 모델을 스트리밍으로 호출하고, 최근 첫 토큰 지연의 percentile 시점까지 첫 토큰이 오지 않으면
+     * 보조 모델로 같은 프롬프트를 한 번 더 호출하여 먼저 완료된 결과를 사용 (나머지 호출은 취소)
+     * 전체 대기 시간은 동기 호출과 같은 http.timeout으로 제한하고, 넘기면 모든 호출을 취소
+     */
+    private String callHedged(FortuneType fortuneType, OutputFormat outputFormat, String model, Prompt prompt) {
+        HedgedChatCall call = new HedgedChatCall();
+        long deadline = System.nanoTime() + openAIProperties.getHttp().getTimeout().toNanos();
+        try {
+            call.start(model, guardedStream(fortuneType, model, prompt));
             
-            if (result == null || result.trim().isEmpty()) {
-                throw new OpenAIException("OpenAI API에서 빈 응답을 받았습니다");
+            boolean hedged = !call.awaitFirstToken(hedgeDelay(fortuneType, model));
+            if (hedged) {
+                ModelRouter.ModelRoute hedgeRoute = modelRouter.hedge(fortuneType);
+                Prompt hedgePrompt = new Prompt(prompt.getContents(),
+                        hedgeRoute.toOptions(responseFormat(fortuneType, outputFormat)));
+                log.info("첫 토큰 지연으로 헤지 요청 - 타입: {}, 모델: {} -> {}", fortuneType, model, hedgeRoute.model());
+                fortuneMetrics.recordHedge(fortuneType, "fired");
+                call.start(hedgeRoute.model(), guardedStream(fortuneType, hedgeRoute.model(), hedgePrompt));
             }
             
-            log.info("오늘의 운세 해석 응답 수신 완료 - 길이: {} 글자", result.length());
-            
-            return result;
-            
-        } catch (OpenAIException e) {
-            log.error("OpenAI API 호출 중 오류 발생", e);
-            throw e;
-        } catch (Exception e) {
-            log.error("오늘의 운세 해석 중 예상치 못한 오류 발생", e);
-            throw new OpenAIException("오늘의 운세 해석 서비스 오류: " + e.getMessage(), e);
+            HedgedChatCall.Leg winner;
+            try {
+                winner = call.await(Duration.ofNanos(deadline - System.nanoTime()));
+            } catch (OpenAIException e) {
+                // 호출별 실패는 guardedStream에서 이미 기록되므로 전체 대기 시간 초과만 기록
+                if (e.getCause() instanceof TimeoutException) {
+                    fortuneMetrics.recordTimeout(fortuneType, model, e);
+                }
+                throw e;
+            }
+            if (hedged) {
+                fortuneMetrics.recordHedge(fortuneType, winner.isHedge() ? "won" : "lost");
+            }
+            return checkResult(fortuneType, winner.model(), prompt, winner.lastResponse(), winner.content());
+        } finally {
+            call.cancel();
         }
     }
     
     /**
-     * 사주 프롬프트 템플릿 파일 로드
+     * 헤지 요청까지 기다릴 시간
+     * 표본이 충분하면 최근 첫 토큰 지연의 percentile 값(최소 min-delay), 부족하면 initial-delay
      */
-    private String loadPromptTemplate() throws IOException {
-        try {
-            return sajuPromptResource.getContentAsString(StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            log.error("사주 프롬프트 템플릿 로드 실패", e);
-            throw new OpenAIException("프롬프트 템플릿을 로드할 수 없습니다", e);
+    private Duration hedgeDelay(FortuneType fortuneType, String model) {
+        OpenAIProperties.Hedge hedge = openAIProperties.getHedge();
+        Timer firstTokenTimer = fortuneMetrics.firstTokenTimer(fortuneType, model);
+        if (firstTokenTimer.count() < hedge.getMinSamples()) {
+            return hedge.getInitialDelay();
         }
+        
+        ValueAtPercentile[] percentiles = firstTokenTimer.takeSnapshot().percentileValues();
+        if (percentiles.length == 0) {
+            return hedge.getInitialDelay();
+        }
+        Duration delay = Duration.ofNanos((long) percentiles[0].value(TimeUnit.NANOSECONDS));
+        return delay.compareTo(hedge.getMinDelay()) < 0 ? hedge.getMinDelay() : delay;
     }
     
     /**
-     * 오늘의 운세 프롬프트 템플릿 파일 로드
+     * 서킷 브레이커와 동시성 제한기를 거쳐 ChatModel 호출
+     * 서킷이 열려 있으면 대기 없이 즉시 CallNotPermittedException으로 실패하고,
+     * 응답 지연과 429 여부는 제한기의 동시성 한도와 서킷의 실패율/지연 호출 비율에 반영
      */
-    private String loadDailyFortunePromptTemplate() throws IOException {
+    private ChatResponse callWithLimit(FortuneType fortuneType, String model, Prompt prompt) {
+        CircuitBreaker circuitBreaker = circuitBreaker(fortuneType, model);
+        acquirePermits(circuitBreaker);
+        long startTime = System.nanoTime();
         try {
-            return dailyFortunePromptResource.getContentAsString(StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            log.error("오늘의 운세 프롬프트 템플릿 로드 실패", e);
-            throw new OpenAIException("오늘의 운세 프롬프트 템플릿을 로드할 수 없습니다", e);
+            ChatResponse response = chatModel.call(prompt);
+            long elapsed = System.nanoTime() - startTime;
+            openAIConcurrencyLimiter.onSuccess(elapsed);
+            circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            fortuneMetrics.recordUpstreamCall(fortuneType, model, "success", elapsed);
+            return response;
+        } catch (RuntimeException e) {
+            long elapsed = System.nanoTime() - startTime;
+            releaseOnError(circuitBreaker, elapsed, e);
+            fortuneMetrics.recordUpstreamCall(fortuneType, model, "error", elapsed);
+            fortuneMetrics.recordTimeout(fortuneType, model, e);
+            throw e;
+        }
+    }
+    
+    private void acquirePermits(CircuitBreaker circuitBreaker) {
+        circuitBreaker.acquirePermission();
+        try {
+            openAIConcurrencyLimiter.acquire();
+        } catch (ServiceOverloadedException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+    }
+    
+    private void releaseOnError(CircuitBreaker circuitBreaker, long elapsed, Throwable error) {
+        if (OpenAIRateLimitException.findIn(error) != null) {
+            openAIConcurrencyLimiter.onDropped();
+        } else {
+            openAIConcurrencyLimiter.onIgnore();
         }
+        circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, error);
+    }
+    
+    /**
+     * 운세 타입/모델별 서킷 브레이커
+     */
+    private CircuitBreaker circuitBreaker(FortuneType fortuneType, String model) {
+        return openAICircuitBreakerRegistry.circuitBreaker(fortuneType.name() + ":" + model);
+    }
+    
+    /**
+     * ChatModel 스트리밍 호출
+     * 구독이 취소되면 업스트림 HTTP 요청도 함께 취소됨
+     */
+    private Flux<String> streamChatModel(FortuneType fortuneType, String model, Prompt prompt, String serviceName) {
+        Flux<String> chunks = guardedStream(fortuneType, model, prompt)
+                .mapNotNull(response -> response.getResult() != null && response.getResult().getOutput() != null
+                        ? response.getResult().getOutput().getContent() : null)
+                .filter(chunk -> !chunk.isEmpty());
+        return sampleBody(fortuneType, model, prompt, chunks)
+                .onErrorMap(e -> !(e instanceof OpenAIException || e instanceof ServiceOverloadedException
+                                || e instanceof CallNotPermittedException),
+                        e -> new OpenAIException(serviceName + " 서비스 오류: " + e.getMessage(), e));
+    }
+    
+    /**
+     * 본문 기록 대상으로 뽑힌 스트림만 조각을 모아 완료 시 기록
+     */
+    private Flux<String> sampleBody(FortuneType fortuneType, String model, Prompt prompt, Flux<String> chunks) {
+        return Flux.defer(() -> {
+            if (!fortuneRequestLogger.sampleBody()) {
+                return chunks;
+            }
+            StringBuilder buffer = new StringBuilder();
+            return chunks
+                    .doOnNext(buffer::append)
+                    .doOnComplete(() -> fortuneRequestLogger.logBody(fortuneType, model, prompt, buffer.toString()));
+        });
+    }
+    
+    /**
+     * 서킷 브레이커와 동시성 제한기를 거친 ChatModel 스트리밍 호출
+     * 구독 시점에 허가를 얻고 완료/실패/취소 시 반납하며, 첫 응답 조각까지의 시간을 기록
+     * 허가 대기(최대 max-wait)가 요청 스레드를 붙잡지 않도록 구독은 boundedElastic 스케줄러에서 수행
+     */
+    private Flux<ChatResponse> guardedStream(FortuneType fortuneType, String model, Prompt prompt) {
+        return Flux.defer(() -> {
+            CircuitBreaker circuitBreaker = circuitBreaker(fortuneType, model);
+            acquirePermits(circuitBreaker);
+            long startTime = System.nanoTime();
+            AtomicBoolean firstTokenReceived = new AtomicBoolean();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            return chatModel.stream(prompt)
+                    .onErrorMap(WebClientResponseException.class, e -> e.getStatusCode().value() == 429
+                            ? new OpenAIRateLimitException(e.getMessage(),
+                                    OpenAIResponseErrorHandler.parseRetryAfter(e.getHeaders()))
+                            : e)
+                    .doOnNext(response -> {
+                        if (firstTokenReceived.compareAndSet(false, true)) {
+                            fortuneMetrics.firstTokenTimer(fortuneType, model)
+                                    .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                        }
+                    })
+                    .doOnError(failure::set)
+                    .doFinally(signal -> {
+                        long elapsed = System.nanoTime() - startTime;
+                        if (signal == SignalType.ON_COMPLETE) {
+                            openAIConcurrencyLimiter.onSuccess(elapsed);
+                            circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                            fortuneMetrics.recordUpstreamCall(fortuneType, model, "success", elapsed);
+                        } else if (signal == SignalType.ON_ERROR) {
+                            releaseOnError(circuitBreaker, elapsed, failure.get());
+                            fortuneMetrics.recordUpstreamCall(fortuneType, model, "error", elapsed);
+                            fortuneMetrics.recordTimeout(fortuneType, model, failure.get());
+                        } else {
+                            openAIConcurrencyLimiter.onIgnore();
+                            circuitBreaker.releasePermission();
+                            fortuneMetrics.recordUpstreamCall(fortuneType, model, "cancelled", elapsed);
+                        }
+                    });
+        }).subscribeOn(Schedulers.boundedElastic());
     }
     
     /**
      * 생시 정보를 포맷팅
      */
-    private String formatBirthTime(String birthTime) {
+    static String formatBirthTime(String birthTime) {
         if (birthTime == null || birthTime.trim().isEmpty()) {
             return "시간 미상";
         }
@@ -174,7 +518,7 @@ public class OpenAIService {
                 return String.format("%02d시 00분", hour);
             }
         } catch (NumberFormatException e) {
-            log.warn("생시 포맷 변환 실패: {}", birthTime);
+            log.warn("생시 포맷 변환 실패");
             return birthTime; // 원본 반환
         }
     }
@@ -0,0 +1,117 @@
+package com.fortune.app.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortune.app.dto.DailyFortuneResult;
+import com.fortune.app.dto.SajuFortuneResult;
+import com.fortune.app.dto.TarotFortuneResult;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.exception.OpenAIException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구조화(JSON) 운세 결과의 스키마 관리 및 파싱
+ * 스키마는 OpenAI response_format(json_schema, strict)으로 전달하고, 응답도 같은 스키마의 필수 필드로 검증
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StructuredFortuneParser {
+
+    private static final Map<FortuneType, String> SCHEMA_LOCATIONS = Map.of(
+            FortuneType.SAJU, "schemas/saju.json",
+            FortuneType.DAILY, "schemas/daily.json"
+    );
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<FortuneType, String> schemas = new EnumMap<>(FortuneType.class);
+    private final Map<FortuneType, List<String>> requiredFields = new EnumMap<>(FortuneType.class);
+
+    @PostConstruct
+    void loadSchemas() throws IOException {
+        for (Map.Entry<FortuneType, String> entry : SCHEMA_LOCATIONS.entrySet()) {
+            String schema = new ClassPathResource(entry.getValue()).getContentAsString(StandardCharsets.UTF_8);
+            List<String> required = new ArrayList<>();
+            objectMapper.readTree(schema).path("required").forEach(field -> required.add(field.asText()));
+            schemas.put(entry.getKey(), schema);
+            requiredFields.put(entry.getKey(), List.copyOf(required));
+        }
+    }
+
+    /**
+     * 운세 타입의 응답 JSON 스키마
+     */
+    public String getSchema(FortuneType fortuneType) {
+        String schema = schemas.get(fortuneType);
+        if (schema == null) {
+            throw new IllegalArgumentException("구조화 결과를 지원하지 않는 운세 타입입니다: " + fortuneType);
+        }
+        return schema;
+    }
+
+    /**
+     * 모델 응답이 스키마의 필수 필드를 모두 갖춘 JSON 객체인지 검증
+     * 형식이 잘못된 응답은 OpenAIException으로 실패시켜 재시도 대상이 되도록 함
+     */
+    public void validate(FortuneType fortuneType, String json) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new OpenAIException("OpenAI API에서 JSON 형식이 아닌 응답을 받았습니다", e);
+        }
+
+        if (node == null || !node.isObject()) {
+            throw new OpenAIException("OpenAI API에서 JSON 객체가 아닌 응답을 받았습니다");
+        }
+        for (String field : requiredFields.getOrDefault(fortuneType, List.of())) {
+            if (!node.hasNonNull(field)) {
+                throw new OpenAIException("OpenAI API 응답에 필수 항목이 없습니다: " + field);
+            }
+        }
+    }
+
+    public SajuFortuneResult parseSaju(String json) {
+        return parse(json, SajuFortuneResult.class);
+    }
+
+    public DailyFortuneResult parseDaily(String json) {
+        return parse(json, DailyFortuneResult.class);
+    }
+
+    public TarotFortuneResult parseTarot(String json) {
+        return parse(json, TarotFortuneResult.class);
+    }
+
+    /**
+     * 결과 DTO를 저장용 JSON 문자열로 변환 (간이 결과 생성용)
+     */
+    public String write(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("구조화 결과 직렬화 실패", e);
+        }
+    }
+
+    private <T> T parse(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new OpenAIException("구조화 운세 결과를 읽을 수 없습니다: " + e.getOriginalMessage(), e);
+        }
+    }
+}
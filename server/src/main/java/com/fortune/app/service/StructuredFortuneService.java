@@ -0,0 +1,99 @@
+package com.fortune.app.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortune.app.cache.FortuneCacheKey;
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.dto.FortuneResponse;
+import com.fortune.app.dto.SajuFortuneResult;
+import com.fortune.app.dto.StructuredFortuneResponse;
+import com.fortune.app.enumerate.OutputFormat;
+import com.fortune.app.manse.SajuPillars;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 구조화(JSON) 운세 해석 서비스
+ * 캐시, 저장소, 장애 대체 처리는 FortuneService를 그대로 거치고, 결과를 타입별 DTO로 읽어 요청한 섹션만 반환
+ */
+@Service
+@RequiredArgsConstructor
+public class StructuredFortuneService {
+
+    private final FortuneService fortuneService;
+    private final StructuredFortuneParser structuredFortuneParser;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * sections가 비어 있으면 전체 섹션을 반환
+     */
+    public StructuredFortuneResponse analyze(AnalyzeFortuneRequest request, Set<String> sections) {
+        request.setOutputFormat(OutputFormat.JSON);
+        FortuneResponse response = fortuneService.analyzeFortune(request);
+
+        Object result = switch (request.getFortuneType()) {
+            case SAJU -> withPillars(structuredFortuneParser.parseSaju(response.getResult()), request);
+            case DAILY -> structuredFortuneParser.parseDaily(response.getResult());
+            case TAROT -> structuredFortuneParser.parseTarot(response.getResult());
+            default -> throw new IllegalArgumentException("구조화 결과를 지원하지 않는 운세 타입입니다: " + request.getFortuneType());
+        };
+
+        return StructuredFortuneResponse.builder()
+                .id(response.getId())
+                .fortuneType(response.getFortuneType())
+                .result(project(objectMapper.valueToTree(result), sections))
+                .createdAt(response.getCreatedAt())
+                .degraded(response.isDegraded())
+                .build();
+    }
+
+    /**
+     * 사주 원국과 오행 분포는 모델 응답 대신 만세력 계산값을 사용
+     * 캐시 키가 이미 계산된 팔자를 담고 있고 본문도 그 키로 캐시되므로, 다시 계산하지 않고 키의 팔자를 그대로 사용
+     */
+    private SajuFortuneResult withPillars(SajuFortuneResult result, AnalyzeFortuneRequest request) {
+        SajuPillars pillars = FortuneCacheKey.of(request).pillars();
+        if (pillars == null) {
+            throw new IllegalArgumentException("만세력으로 계산할 수 없는 생년월일입니다: " + request.getBirthDate());
+        }
+        int[] counts = pillars.elementCounts();
+
+        result.setPillars(new SajuFortuneResult.Pillars(
+                pillars.year().toString(),
+                pillars.month().toString(),
+                pillars.day().toString(),
+                pillars.hour() != null ? pillars.hour().toString() : null));
+        result.setElements(new SajuFortuneResult.Elements(counts[0], counts[1], counts[2], counts[3], counts[4]));
+        return result;
+    }
+
+    private static ObjectNode project(ObjectNode result, Set<String> sections) {
+        if (sections == null || sections.isEmpty()) {
+            return result;
+        }
+
+        List<String> unknown = new ArrayList<>();
+        for (String section : sections) {
+            if (!result.has(section)) {
+                unknown.add(section);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("지원하지 않는 섹션입니다: " + unknown
+                    + " (사용 가능: " + fieldNames(result) + ")");
+        }
+
+        return result.retain(sections);
+    }
+
+    private static Collection<String> fieldNames(ObjectNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
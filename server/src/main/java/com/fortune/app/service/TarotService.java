@@ -0,0 +1,142 @@
+package com.fortune.app.service;
+
+import com.fortune.app.cache.DailyFortuneCache;
+import com.fortune.app.cache.FortuneCacheKey;
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.dto.TarotFortuneResult;
+import com.fortune.app.enumerate.OutputFormat;
+import com.fortune.app.tarot.DrawnCard;
+import com.fortune.app.tarot.TarotReader;
+import com.fortune.app.tarot.TarotReading;
+import com.fortune.app.tarot.TarotSpread;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * 오늘의 타로 서비스
+ * 카드 뽑기와 카드별 의미는 로컬 덱으로 즉시 결정하고, 모델은 짧은 종합 해석에만 사용
+ * 종합 해석은 날짜 단위로 캐시/저장하며, 비활성화되었거나 OpenAI 장애 시에는 생략
+ */
+@Service
+@RequiredArgsConstructor
+public class TarotService {
+
+    static final String SYNTHESIS_HEADER = "\n\n### 🔮 카드가 전하는 이야기\n";
+    static final String SYNTHESIS_UNAVAILABLE = "현재 종합 해석 서비스가 원활하지 않아 카드별 의미만 제공해 드립니다.";
+
+    private final TarotReader tarotReader;
+    private final OpenAIService openAIService;
+    private final DailyFortuneCache dailyFortuneCache;
+    private final FortuneResultStore fortuneResultStore;
+    private final StructuredFortuneParser structuredFortuneParser;
+
+    @Value("${fortune.tarot.spread:THREE_CARD}")
+    private TarotSpread spread;
+
+    @Value("${fortune.tarot.synthesis.enabled:true}")
+    private boolean synthesisEnabled;
+
+    public boolean isSynthesisEnabled() {
+        return synthesisEnabled;
+    }
+
+    /**
+     * 오늘 날짜 기준 카드 뽑기 (같은 프로필은 하루 동안 같은 카드)
+     */
+    public TarotReading draw(AnalyzeFortuneRequest request) {
+        return tarotReader.draw(FortuneCacheKey.of(request).profileHash(), dailyFortuneCache.today(), spread);
+    }
+
+    /**
+     * 지정한 날짜 기준 카드 뽑기 (저장된 결과를 ID로 다시 렌더링할 때)
+     */
+    public TarotReading draw(String profileHash, LocalDate date) {
+        return tarotReader.draw(profileHash, date, spread);
+    }
+
+    /**
+     * 카드 뽑기와 종합 해석 (캐시, 저장소에 없으면 모델 호출)
+     */
+    public String analyze(AnalyzeFortuneRequest request) {
+        TarotReading reading = draw(request);
+        if (!synthesisEnabled) {
+            return render(request, reading, null);
+        }
+
+        AnalyzeFortuneRequest synthesisRequest = synthesisRequest(request);
+        String synthesis = dailyFortuneCache.get(synthesisRequest, date -> fortuneResultStore.getOrGenerate(
+                synthesisRequest, date, () -> openAIService.getTarotSynthesis(synthesisRequest, reading)));
+        return render(request, reading, synthesis);
+    }
+
+    /**
+     * OpenAI 장애 시 종합 해석 없이 카드 결과만 반환
+     */
+    public String renderWithoutSynthesis(AnalyzeFortuneRequest request) {
+        TarotReading reading = draw(request);
+        if (request.getOutputFormat() == OutputFormat.JSON) {
+            return render(request, reading, null);
+        }
+        return renderCards(reading) + SYNTHESIS_HEADER + SYNTHESIS_UNAVAILABLE;
+    }
+
+    /**
+     * 요청 형식에 맞게 결과 생성 (JSON이면 TarotFortuneResult)
+     */
+    public String render(AnalyzeFortuneRequest request, TarotReading reading, String synthesis) {
+        return render(request.getOutputFormat(), reading, synthesis);
+    }
+
+    public String render(OutputFormat outputFormat, TarotReading reading, String synthesis) {
+        if (outputFormat == OutputFormat.JSON) {
+            return structuredFortuneParser.write(toResult(reading, synthesis));
+        }
+        return synthesis != null ? renderCards(reading) + SYNTHESIS_HEADER + synthesis : renderCards(reading);
+    }
+
+    /**
+     * 카드 목록 (스트리밍 시 첫 조각으로 바로 전달)
+     */
+    public String renderCards(TarotReading reading) {
+        StringBuilder builder = new StringBuilder()
+                .append("## 🃏 오늘의 타로 (").append(reading.date()).append(", ")
+                .append(reading.spread().getDescription()).append(")\n");
+        for (DrawnCard drawn : reading.cards()) {
+            builder.append("- **").append(drawn.position()).append(":** ")
+                    .append(drawn.card().name()).append(" (").append(drawn.card().englishName()).append(") · ")
+                    .append(drawn.getOrientation()).append(" — ")
+                    .append(String.join(", ", drawn.getKeywords())).append('\n');
+        }
+        return builder.toString().stripTrailing();
+    }
+
+    /**
+     * 종합 해석은 결과 형식과 무관하게 텍스트 하나를 공유하도록 TEXT 형식 요청으로 캐시/생성
+     */
+    static AnalyzeFortuneRequest synthesisRequest(AnalyzeFortuneRequest request) {
+        if (request.getOutputFormat() == OutputFormat.TEXT) {
+            return request;
+        }
+        AnalyzeFortuneRequest synthesisRequest = new AnalyzeFortuneRequest();
+        synthesisRequest.setGender(request.getGender());
+        synthesisRequest.setBirthDate(request.getBirthDate());
+        synthesisRequest.setBirthTime(request.getBirthTime());
+        synthesisRequest.setFortuneType(request.getFortuneType());
+        return synthesisRequest;
+    }
+
+    private static TarotFortuneResult toResult(TarotReading reading, String synthesis) {
+        return TarotFortuneResult.builder()
+                .spread(reading.spread().name())
+                .date(reading.date().toString())
+                .cards(reading.cards().stream()
+                        .map(drawn -> new TarotFortuneResult.Card(drawn.position(), drawn.card().name(),
+                                drawn.card().englishName(), drawn.reversed(), drawn.getKeywords()))
+                        .toList())
+                .synthesis(synthesis)
+                .build();
+    }
+}
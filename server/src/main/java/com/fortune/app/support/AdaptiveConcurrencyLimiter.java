@@ -0,0 +1,139 @@
+package com.fortune.app.support;
+
+import com.fortune.app.exception.ServiceOverloadedException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD 방식의 적응형 동시성 제한기
+ * 한도를 넘는 요청은 제한된 크기의 대기열에서 최대 maxWait 동안 기다리며, 대기열이 가득 차거나 시간이 지나면 즉시 거절
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final int maxQueueSize;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                      Duration latencyThreshold, int maxQueueSize, Duration maxWait) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxQueueSize = maxQueueSize;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * 제한 없이 동작하는 제한기 (limiter.enabled=false)
+     */
+    public static AdaptiveConcurrencyLimiter unlimited() {
+        return new AdaptiveConcurrencyLimiter(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 1.0,
+                Duration.ofNanos(Long.MAX_VALUE), 0, Duration.ZERO);
+    }
+
+    /**
+     * 실행 권한 획득 (반드시 onSuccess / onDropped / onIgnore 중 하나로 반납)
+     */
+    public void acquire() {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return;
+            }
+
+            if (waiting >= maxQueueSize) {
+                throw reject();
+            }
+
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        throw reject();
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject();
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 정상 응답: 지연이 임계치 이내면 한도를 1/limit 만큼 증가 (한도당 약 1씩 증가)
+     */
+    public void onSuccess(long latencyNanos) {
+        release(latencyNanos > latencyThresholdNanos ? limit * backoffRatio : limit + 1.0 / limit);
+    }
+
+    /**
+     * 과부하 신호(429): 한도를 비율만큼 감소
+     */
+    public void onDropped() {
+        release(limit * backoffRatio);
+    }
+
+    /**
+     * 과부하와 무관한 실패: 한도 유지
+     */
+    public void onIgnore() {
+        release(limit);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public int getWaiting() {
+        return waiting;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    private void release(double newLimit) {
+        lock.lock();
+        try {
+            inFlight--;
+            limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ServiceOverloadedException reject() {
+        rejectedCount.increment();
+        return new ServiceOverloadedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                Duration.ofNanos(maxWaitNanos).toSeconds() + 1);
+    }
+}
@@ -0,0 +1,161 @@
+package com.fortune.app.support;
+
+import com.fortune.app.enumerate.FortuneType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 클라이언트별, 운세 타입별 토큰 버킷 (GCRA)
+ * 버킷 상태는 "다음 요청이 도착해야 할 이론상 시각" 하나이므로 타입별 long 하나를 CAS로만 갱신 (잠금 없음)
+ * 클라이언트 항목은 Caffeine에 두어 일정 시간 사용하지 않으면 제거하고 최대 개수를 제한
+ */
+public class ClientRateLimiter {
+
+    private final long[] intervalNanos = new long[FortuneType.values().length];
+    private final long[] toleranceNanos = new long[FortuneType.values().length];
+    private final int[] maxCosts = new int[FortuneType.values().length];
+    private final Cache<String, ClientBuckets> clients;
+    private final Ticker ticker;
+    private final long origin;
+
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * budgets에 없는 타입은 제한하지 않음
+     */
+    public ClientRateLimiter(Map<FortuneType, Budget> budgets, int maxClients, Duration idleTimeout) {
+        this(budgets, maxClients, idleTimeout, Ticker.systemTicker());
+    }
+
+    ClientRateLimiter(Map<FortuneType, Budget> budgets, int maxClients, Duration idleTimeout, Ticker ticker) {
+        Arrays.fill(maxCosts, Integer.MAX_VALUE);
+        budgets.forEach((fortuneType, budget) -> {
+            long interval = (long) (Duration.ofMinutes(1).toNanos() / budget.requestsPerMinute());
+            intervalNanos[fortuneType.ordinal()] = interval;
+            toleranceNanos[fortuneType.ordinal()] = interval * budget.burst();
+            maxCosts[fortuneType.ordinal()] = budget.burst();
+        });
+        this.ticker = ticker;
+        this.origin = ticker.read();
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(idleTimeout)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 운세 타입별 지속 속도와 버킷 크기
+     */
+    public record Budget(double requestsPerMinute, int burst) {
+    }
+
+    /**
+     * 클라이언트별 거절 건수
+     */
+    public record ClientRejections(String client, long rejected) {
+    }
+
+    /**
+     * 한 번의 요청으로 허용할 수 있는 최대 비용 (버킷 크기, 제한하지 않는 타입은 Integer.MAX_VALUE)
+     * 이보다 큰 비용은 기다려도 허용되지 않으므로 tryAcquire 전에 거절해야 함
+     */
+    public int maxCost(FortuneType fortuneType) {
+        return maxCosts[fortuneType.ordinal()];
+    }
+
+    /**
+     * 요청 비용(타입별 건수)을 모두 허용할 수 있으면 차감하고 0을, 아니면 차감 없이 다시 시도할 수 있을 때까지의 시간(ns)을 반환
+     */
+    public long tryAcquire(String client, Map<FortuneType, Integer> costs) {
+        ClientBuckets buckets = clients.get(client, key -> new ClientBuckets());
+        long now = ticker.read() - origin;
+
+        long retryAfter = 0;
+        int acquired = 0;
+        FortuneType[] types = costs.keySet().toArray(FortuneType[]::new);
+        for (; acquired < types.length; acquired++) {
+            retryAfter = buckets.tryAcquire(types[acquired], costs.get(types[acquired]), now);
+            if (retryAfter > 0) {
+                break;
+            }
+        }
+
+        if (retryAfter == 0) {
+            allowedCount.increment();
+            return 0;
+        }
+        for (int i = 0; i < acquired; i++) {
+            buckets.refund(types[i], costs.get(types[i]));
+        }
+        buckets.rejected.increment();
+        rejectedCount.increment();
+        return retryAfter;
+    }
+
+    /**
+     * 거절 건수가 많은 클라이언트 순 (추적 중인 클라이언트 기준)
+     */
+    public List<ClientRejections> topRejected(int limit) {
+        return clients.asMap().entrySet().stream()
+                .filter(entry -> entry.getValue().rejected.sum() > 0)
+                .map(entry -> new ClientRejections(entry.getKey(), entry.getValue().rejected.sum()))
+                .sorted(Comparator.comparingLong(ClientRejections::rejected).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public long getClientCount() {
+        return clients.estimatedSize();
+    }
+
+    public long getAllowedCount() {
+        return allowedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    private final class ClientBuckets {
+
+        /**
+         * 타입별 이론상 도착 시각 (origin 기준 ns)
+         */
+        private final AtomicLongArray theoreticalArrival = new AtomicLongArray(FortuneType.values().length);
+        private final LongAdder rejected = new LongAdder();
+
+        long tryAcquire(FortuneType fortuneType, int cost, long now) {
+            int index = fortuneType.ordinal();
+            long interval = intervalNanos[index];
+            if (interval == 0) {
+                return 0;
+            }
+            while (true) {
+                long current = theoreticalArrival.get(index);
+                long next = Math.max(current, now) + interval * cost;
+                long excess = next - now - toleranceNanos[index];
+                if (excess > 0) {
+                    return excess;
+                }
+                if (theoreticalArrival.compareAndSet(index, current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        void refund(FortuneType fortuneType, int cost) {
+            theoreticalArrival.addAndGet(fortuneType.ordinal(), -intervalNanos[fortuneType.ordinal()] * cost);
+        }
+    }
+}
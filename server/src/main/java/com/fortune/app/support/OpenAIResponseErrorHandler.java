@@ -0,0 +1,78 @@
+package com.fortune.app.support;
+
+import com.fortune.app.exception.OpenAIException;
+import com.fortune.app.exception.OpenAIRateLimitException;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.ResponseErrorHandler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * OpenAI API 오류 응답 처리
+ * 429는 Retry-After 값을 담은 OpenAIRateLimitException으로 변환하고,
+ * Spring AI 내부 재시도(TransientAiException) 대신 애플리케이션 재시도 정책이 모든 재시도를 결정하도록 함
+ */
+public class OpenAIResponseErrorHandler implements ResponseErrorHandler {
+
+    private static final String RETRY_AFTER_MS = "retry-after-ms";
+
+    @Override
+    public boolean hasError(ClientHttpResponse response) throws IOException {
+        return response.getStatusCode().isError();
+    }
+
+    @Override
+    public void handleError(ClientHttpResponse response) throws IOException {
+        HttpStatusCode status = response.getStatusCode();
+        String body = StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+        String message = String.format("%s - %s", status.value(), body);
+
+        if (status.value() == 429) {
+            throw new OpenAIRateLimitException(message, parseRetryAfter(response.getHeaders()));
+        }
+        if (status.is5xxServerError()) {
+            throw new OpenAIException("OpenAI API 서버 오류: " + message);
+        }
+        throw new NonTransientAiException(message);
+    }
+
+    /**
+     * Retry-After 헤더 파싱 (retry-after-ms, 초 단위 숫자, HTTP 날짜 형식 지원)
+     */
+    public static Duration parseRetryAfter(HttpHeaders headers) {
+        String retryAfterMs = headers.getFirst(RETRY_AFTER_MS);
+        if (retryAfterMs != null) {
+            try {
+                return Duration.ofMillis((long) Double.parseDouble(retryAfterMs.trim()));
+            } catch (NumberFormatException ignored) {
+                // Retry-After 헤더로 대체
+            }
+        }
+
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(), retryAt);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
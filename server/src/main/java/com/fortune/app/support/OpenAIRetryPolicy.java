@@ -0,0 +1,48 @@
+package com.fortune.app.support;
+
+import com.fortune.app.exception.OpenAIException;
+import com.fortune.app.exception.OpenAIRateLimitException;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * OpenAI 호출 재시도 정책
+ * OpenAIException만 재시도하되, 재시도해도 결과가 같은 4xx 오류와
+ * 허용 시간보다 긴 Retry-After가 지정된 429는 즉시 실패 처리
+ */
+public class OpenAIRetryPolicy extends SimpleRetryPolicy {
+
+    private final Duration maxRetryAfter;
+
+    public OpenAIRetryPolicy(int maxAttempts, Duration maxRetryAfter) {
+        super(maxAttempts, Map.of(OpenAIException.class, true), true);
+        this.maxRetryAfter = maxRetryAfter;
+    }
+
+    @Override
+    public boolean canRetry(RetryContext context) {
+        if (!super.canRetry(context)) {
+            return false;
+        }
+
+        Throwable lastThrowable = context.getLastThrowable();
+        if (lastThrowable == null) {
+            return true;
+        }
+
+        for (Throwable current = lastThrowable; current != null; current = current.getCause()) {
+            if (current instanceof NonTransientAiException) {
+                return false;
+            }
+        }
+
+        OpenAIRateLimitException rateLimitException = OpenAIRateLimitException.findIn(lastThrowable);
+        return rateLimitException == null
+                || rateLimitException.getRetryAfter() == null
+                || rateLimitException.getRetryAfter().compareTo(maxRetryAfter) <= 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.fortune.app.support;
+
+import com.fortune.app.exception.OpenAIRateLimitException;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.BackOffPolicy;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지터가 적용된 지수 백오프
+ * 대기 시간은 [지수 지연의 절반, 지수 지연] 구간에서 무작위로 선택하여 동시 재시도가 한 시점에 몰리지 않도록 하고,
+ * 업스트림이 Retry-After를 지정한 경우 그보다 먼저 재시도하지 않음
+ */
+public class RetryAfterBackOffPolicy implements BackOffPolicy {
+
+    private final long initialDelayMillis;
+    private final double multiplier;
+    private final long maxDelayMillis;
+
+    public RetryAfterBackOffPolicy(Duration initialDelay, double multiplier, Duration maxDelay) {
+        this.initialDelayMillis = initialDelay.toMillis();
+        this.multiplier = multiplier;
+        this.maxDelayMillis = maxDelay.toMillis();
+    }
+
+    @Override
+    public BackOffContext start(RetryContext context) {
+        return new RetryAfterBackOffContext(context);
+    }
+
+    @Override
+    public void backOff(BackOffContext backOffContext) throws BackOffInterruptedException {
+        RetryAfterBackOffContext context = (RetryAfterBackOffContext) backOffContext;
+        long delay = nextDelay(context.attempt++);
+
+        OpenAIRateLimitException rateLimitException =
+                OpenAIRateLimitException.findIn(context.retryContext.getLastThrowable());
+        if (rateLimitException != null && rateLimitException.getRetryAfter() != null) {
+            delay = Math.max(delay, rateLimitException.getRetryAfter().toMillis());
+        }
+
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BackOffInterruptedException("재시도 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private long nextDelay(int attempt) {
+        long exponential = (long) Math.min(maxDelayMillis, initialDelayMillis * Math.pow(multiplier, attempt));
+        long half = exponential / 2;
+        return half + ThreadLocalRandom.current().nextLong(exponential - half + 1);
+    }
+
+    private static class RetryAfterBackOffContext implements BackOffContext {
+
+        private final RetryContext retryContext;
+        private int attempt;
+
+        private RetryAfterBackOffContext(RetryContext retryContext) {
+            this.retryContext = retryContext;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.fortune.app.tarot;
+
+import java.util.List;
+
+/**
+ * 스프레드의 한 자리에 뽑힌 카드
+ */
+public record DrawnCard(String position, TarotCard card, boolean reversed) {
+
+    public String getOrientation() {
+        return reversed ? "역방향" : "정방향";
+    }
+
+    public List<String> getKeywords() {
+        return card.keywords(reversed);
+    }
+}
@@ -0,0 +1,24 @@
+package com.fortune.app.tarot;
+
+import java.util.List;
+
+/**
+ * 타로 카드 한 장 (id 0~21 대 아르카나, 22~77 소 아르카나)
+ * 소 아르카나의 rank는 1(에이스)~10, 11(시종), 12(기사), 13(여왕), 14(왕)
+ */
+public record TarotCard(int id, String name, String englishName, TarotSuit suit, int rank,
+                        List<String> upright, List<String> reversed) {
+
+    public boolean isMajor() {
+        return suit == null;
+    }
+
+    public List<String> keywords(boolean isReversed) {
+        return isReversed ? reversed : upright;
+    }
+
+    @Override
+    public String toString() {
+        return name + "(" + englishName + ")";
+    }
+}
@@ -0,0 +1,126 @@
+package com.fortune.app.tarot;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 78장 타로 덱과 정/역방향 의미
+ * 카드는 id 순서의 배열로, 한글/영문 이름은 맵으로 색인하여 조회만으로 의미를 결정
+ * 소 아르카나의 의미는 슈트 주제와 숫자/인물 카드의 의미를 조합
+ */
+@Component
+public class TarotDeck {
+
+    public static final int SIZE = 78;
+    public static final int MAJOR_ARCANA = 22;
+    public static final int RANKS_PER_SUIT = 14;
+
+    /** 대 아르카나: 한글 이름, 영문 이름, 정방향, 역방향 */
+    private static final String[][] MAJORS = {
+            {"바보", "The Fool", "새로운 시작, 자유, 순수한 모험", "무모함, 경솔한 결정, 망설임"},
+            {"마법사", "The Magician", "창조력, 의지, 실행력", "재능 낭비, 속임수, 준비 부족"},
+            {"여사제", "The High Priestess", "직관, 내면의 지혜, 비밀", "직관 무시, 숨겨진 의도, 혼란"},
+            {"여황제", "The Empress", "풍요, 모성, 결실", "의존, 정체, 과잉보호"},
+            {"황제", "The Emperor", "권위, 안정, 리더십", "독단, 통제욕, 경직"},
+            {"교황", "The Hierophant", "전통, 가르침, 신뢰", "관습 탈피, 고집, 형식주의"},
+            {"연인", "The Lovers", "사랑, 조화, 중요한 선택", "불화, 갈등, 잘못된 선택"},
+            {"전차", "The Chariot", "승리, 추진력, 의지", "방향 상실, 조급함, 통제 불능"},
+            {"힘", "Strength", "용기, 인내, 부드러운 힘", "자기 의심, 나약함, 감정 폭발"},
+            {"은둔자", "The Hermit", "성찰, 탐구, 고독", "고립, 외로움, 현실 도피"},
+            {"운명의 수레바퀴", "Wheel of Fortune", "전환점, 행운, 순환", "불운, 변화에 대한 저항, 악순환"},
+            {"정의", "Justice", "공정, 균형, 책임", "불공정, 편견, 책임 회피"},
+            {"매달린 사람", "The Hanged Man", "관점 전환, 희생, 기다림", "지연, 헛된 희생, 정체"},
+            {"죽음", "Death", "끝과 새 시작, 변화, 정리", "변화 거부, 미련, 정체"},
+            {"절제", "Temperance", "조화, 절제, 균형", "불균형, 과잉, 조급함"},
+            {"악마", "The Devil", "유혹, 집착, 속박", "해방, 집착에서 벗어남, 자각"},
+            {"탑", "The Tower", "갑작스러운 변화, 붕괴, 깨달음", "위기 모면, 변화 지연, 두려움"},
+            {"별", "The Star", "희망, 영감, 치유", "실망, 자신감 부족, 비관"},
+            {"달", "The Moon", "불안, 환상, 잠재의식", "혼란 해소, 진실이 드러남, 두려움 극복"},
+            {"태양", "The Sun", "성공, 활력, 기쁨", "일시적 침체, 과신, 늦어지는 성공"},
+            {"심판", "Judgement", "부활, 각성, 결단", "자기 비판, 후회, 결정 회피"},
+            {"세계", "The World", "완성, 성취, 통합", "미완성, 마무리 부족, 지연"}
+    };
+
+    /** 소 아르카나 숫자/인물 카드: 한글 이름, 영문 이름, 정방향, 역방향 */
+    private static final String[][] RANKS = {
+            {"에이스", "Ace", "새로운 기회, 시작의 씨앗", "기회 지연, 잠재력 낭비"},
+            {"2", "Two", "선택, 균형, 계획", "우유부단, 불균형"},
+            {"3", "Three", "성장, 협력, 확장", "협력 부족, 계획 지연"},
+            {"4", "Four", "안정, 휴식, 기반 다지기", "정체, 안주"},
+            {"5", "Five", "갈등, 상실, 시련", "회복의 시작, 갈등 해소"},
+            {"6", "Six", "조화, 나눔, 회복", "과거에 대한 집착, 불균형한 관계"},
+            {"7", "Seven", "도전, 점검, 인내", "포기, 혼란"},
+            {"8", "Eight", "변화, 이동, 몰두", "정체, 방향 상실"},
+            {"9", "Nine", "성취 직전, 만족, 자립", "불안, 과욕"},
+            {"10", "Ten", "완성, 결말, 책임의 무게", "부담 과중, 끝맺음 실패"},
+            {"시종", "Page", "배움, 새로운 소식, 호기심", "미숙함, 좋지 않은 소식"},
+            {"기사", "Knight", "행동, 추진, 모험", "성급함, 무모함"},
+            {"여왕", "Queen", "포용, 성숙, 내면의 힘", "감정 기복, 의존"},
+            {"왕", "King", "통솔, 책임, 숙련", "독단, 권위 남용"}
+    };
+
+    private final TarotCard[] cards = new TarotCard[SIZE];
+    private final Map<String, TarotCard> byName = new HashMap<>();
+
+    public TarotDeck() {
+        for (int i = 0; i < MAJOR_ARCANA; i++) {
+            String[] major = MAJORS[i];
+            register(new TarotCard(i, major[0], major[1], null, i, keywords(major[2]), keywords(major[3])));
+        }
+
+        int id = MAJOR_ARCANA;
+        for (TarotSuit suit : TarotSuit.values()) {
+            for (int rank = 1; rank <= RANKS_PER_SUIT; rank++) {
+                String[] meaning = RANKS[rank - 1];
+                register(new TarotCard(id++,
+                        suit.getName() + " " + meaning[0],
+                        meaning[1] + " of " + suit.getEnglishName(),
+                        suit, rank,
+                        withTheme(suit, meaning[2]),
+                        withTheme(suit, meaning[3])));
+            }
+        }
+    }
+
+    public TarotCard get(int id) {
+        return cards[id];
+    }
+
+    /**
+     * 한글 또는 영문 이름으로 조회 (영문은 대소문자 무시)
+     */
+    public TarotCard find(String name) {
+        TarotCard card = byName.get(name);
+        return card != null ? card : byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public List<TarotCard> getAll() {
+        return List.of(cards);
+    }
+
+    private void register(TarotCard card) {
+        cards[card.id()] = card;
+        byName.put(card.name(), card);
+        byName.put(card.englishName().toLowerCase(Locale.ROOT), card);
+    }
+
+    private static List<String> keywords(String meaning) {
+        return List.of(meaning.split(", "));
+    }
+
+    /**
+     * 슈트 주제를 첫 키워드로 붙여 소 아르카나 의미 생성 (예: 감정과 관계, 새로운 기회, 시작의 씨앗)
+     */
+    private static List<String> withTheme(TarotSuit suit, String meaning) {
+        List<String> keywords = new ArrayList<>();
+        keywords.add(suit.getTheme());
+        Collections.addAll(keywords, meaning.split(", "));
+        return List.copyOf(keywords);
+    }
+}
@@ -0,0 +1,53 @@
+package com.fortune.app.tarot;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 타로 카드 뽑기
+ * 프로필 해시, 날짜, 스프레드로 시드를 정해 덱을 부분 셔플하므로 같은 입력에는 항상 같은 카드가 나오고,
+ * 모델 호출 없이 즉시 결과를 만들 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+public class TarotReader {
+
+    /** 날짜별 시드를 흩뜨리기 위한 상수 (황금비) */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final TarotDeck tarotDeck;
+
+    /**
+     * @param profileHash 프로필 해시 (16진수 문자열)
+     */
+    public TarotReading draw(String profileHash, LocalDate date, TarotSpread spread) {
+        SplittableRandom random = new SplittableRandom(seed(profileHash, date, spread));
+
+        int[] order = new int[TarotDeck.SIZE];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        List<String> positions = spread.getPositions();
+        List<DrawnCard> cards = new ArrayList<>(positions.size());
+        for (int i = 0; i < positions.size(); i++) {
+            int pick = i + random.nextInt(order.length - i);
+            int id = order[pick];
+            order[pick] = order[i];
+            order[i] = id;
+            cards.add(new DrawnCard(positions.get(i), tarotDeck.get(id), random.nextBoolean()));
+        }
+
+        return new TarotReading(spread, date, List.copyOf(cards));
+    }
+
+    private static long seed(String profileHash, LocalDate date, TarotSpread spread) {
+        long profileSeed = Long.parseUnsignedLong(profileHash.substring(0, 16), 16);
+        return profileSeed ^ (date.toEpochDay() * GOLDEN_GAMMA) ^ spread.ordinal();
+    }
+}
@@ -0,0 +1,26 @@
+package com.fortune.app.tarot;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 타로 카드 뽑기 결과 (같은 프로필, 날짜, 스프레드에는 항상 같은 결과)
+ */
+public record TarotReading(TarotSpread spread, LocalDate date, List<DrawnCard> cards) {
+
+    /**
+     * 프롬프트용 카드 목록 (예: - 과거: 마법사(The Magician) 정방향 - 창조력, 의지, 실행력)
+     */
+    public String formatCards() {
+        StringBuilder builder = new StringBuilder();
+        for (DrawnCard drawn : cards) {
+            if (!builder.isEmpty()) {
+                builder.append('\n');
+            }
+            builder.append("- ").append(drawn.position()).append(": ").append(drawn.card())
+                    .append(' ').append(drawn.getOrientation())
+                    .append(" - ").append(String.join(", ", drawn.getKeywords()));
+        }
+        return builder.toString();
+    }
+}
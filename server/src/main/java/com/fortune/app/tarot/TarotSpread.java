@@ -0,0 +1,24 @@
+package com.fortune.app.tarot;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 타로 스프레드 (뽑는 카드 수와 각 자리의 의미)
+ */
+@Getter
+@AllArgsConstructor
+public enum TarotSpread {
+    ONE_CARD("원 카드", List.of("오늘의 카드")),
+    THREE_CARD("쓰리 카드", List.of("과거", "현재", "미래")),
+    FIVE_CARD("파이브 카드", List.of("현재 상황", "장애물", "조언", "숨은 영향", "결과"));
+
+    private final String description;
+    private final List<String> positions;
+
+    public int size() {
+        return positions.size();
+    }
+}
@@ -0,0 +1,20 @@
+package com.fortune.app.tarot;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 소 아르카나 슈트 (각 14장)
+ */
+@Getter
+@AllArgsConstructor
+public enum TarotSuit {
+    WANDS("완드", "Wands", "열정과 일"),
+    CUPS("컵", "Cups", "감정과 관계"),
+    SWORDS("소드", "Swords", "생각과 갈등"),
+    PENTACLES("펜타클", "Pentacles", "재물과 현실");
+
+    private final String name;
+    private final String englishName;
+    private final String theme;
+}
@@ -0,0 +1,14 @@
+-- 생성된 운세 결과 저장소 (H2는 MODE=MySQL로 같은 스키마 사용)
+CREATE TABLE IF NOT EXISTS fortune_result (
+    profile_hash   CHAR(64)    NOT NULL,
+    fortune_type   VARCHAR(20) NOT NULL,
+    prompt_version VARCHAR(16) NOT NULL,
+    fortune_date   DATE        NOT NULL,
+    gender         VARCHAR(10) NOT NULL,
+    birth_date     VARCHAR(10) NOT NULL,
+    si_jin         VARCHAR(10),
+    result         TEXT        NOT NULL,
+    created_at     TIMESTAMP   NOT NULL,
+    PRIMARY KEY (profile_hash, fortune_type, prompt_version, fortune_date),
+    INDEX idx_fortune_result_warmup (fortune_type, prompt_version, fortune_date, created_at)
+);
@@ -0,0 +1,63 @@
+package com.fortune.app.cache;
+
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.Gender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FortuneCacheKeyTest {
+
+    @Test
+    @DisplayName("절입일이 아니면 같은 시진 출생자는 같은 키")
+    void sameSiJinSharesKey() {
+        FortuneCacheKey first = FortuneCacheKey.of(request("1990-05-15", "09:10"));
+        FortuneCacheKey second = FortuneCacheKey.of(request("1990-05-15", "10:50"));
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.profileHash()).isEqualTo(second.profileHash());
+    }
+
+    @Test
+    @DisplayName("절입일에는 같은 시진이라도 절입 시각 전후 출생자는 다른 키 (2024 입춘 17:27)")
+    void jeolDaySplitsSiJin() {
+        FortuneCacheKey beforeIpchun = FortuneCacheKey.of(request("2024-02-04", "17:00"));
+        FortuneCacheKey afterIpchun = FortuneCacheKey.of(request("2024-02-04", "17:59"));
+
+        assertThat(beforeIpchun.pillars().year()).isNotEqualTo(afterIpchun.pillars().year());
+        assertThat(beforeIpchun).isNotEqualTo(afterIpchun);
+        assertThat(beforeIpchun.profileHash()).isNotEqualTo(afterIpchun.profileHash());
+    }
+
+    @Test
+    @DisplayName("다른 시진이면 다른 키, 생시 미상은 별도 키")
+    void differentSiJinOrUnknownTime() {
+        FortuneCacheKey morning = FortuneCacheKey.of(request("1990-05-15", "09:10"));
+        FortuneCacheKey noon = FortuneCacheKey.of(request("1990-05-15", "12:00"));
+        FortuneCacheKey unknown = FortuneCacheKey.of(request("1990-05-15", ""));
+
+        assertThat(morning).isNotEqualTo(noon);
+        assertThat(unknown.pillars().hour()).isNull();
+        assertThat(unknown).isNotEqualTo(noon);
+    }
+
+    @Test
+    @DisplayName("만세력으로 계산할 수 없는 생년월일도 키는 생성 (팔자 없음)")
+    void invalidBirthDateHasNoPillars() {
+        FortuneCacheKey key = FortuneCacheKey.of(request("1990-02-30", "10:00"));
+
+        assertThat(key.pillars()).isNull();
+        assertThat(key.profileHash()).hasSize(64);
+    }
+
+    private static AnalyzeFortuneRequest request(String birthDate, String birthTime) {
+        AnalyzeFortuneRequest request = new AnalyzeFortuneRequest();
+        request.setBirthDate(birthDate);
+        request.setBirthTime(birthTime);
+        request.setGender(Gender.FEMALE);
+        request.setFortuneType(FortuneType.SAJU);
+        return request;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fortune.app.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FortuneValueCodecTest {
+
+    @Test
+    @DisplayName("압축 후 복원하면 원문과 같음")
+    void roundTrip() {
+        String value = "## 🔮 사주 해석\n\n갑자(甲子)년 출생으로 목(木)의 기운이 강합니다. ".repeat(200);
+
+        byte[] encoded = FortuneValueCodec.encode(value, 6);
+
+        assertThat(encoded.length).isLessThan(value.getBytes().length / 4);
+        assertThat(FortuneValueCodec.decode(encoded)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("빈 문자열과 압축 수준 0도 복원")
+    void roundTripEdgeCases() {
+        assertThat(FortuneValueCodec.decode(FortuneValueCodec.encode("", 6))).isEmpty();
+        assertThat(FortuneValueCodec.decode(FortuneValueCodec.encode("운세", 0))).isEqualTo("운세");
+    }
+
+    @Test
+    @DisplayName("형식 버전이 다르거나 헤더보다 짧은 값은 거절")
+    void rejectsUnknownFormat() {
+        byte[] encoded = FortuneValueCodec.encode("운세", 6);
+        encoded[0] = 9;
+
+        assertThatThrownBy(() -> FortuneValueCodec.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FortuneValueCodec.decode(new byte[]{1, 0})).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("잘린 값은 손상된 값으로 거절")
+    void rejectsTruncatedValue() {
+        byte[] encoded = FortuneValueCodec.encode("오늘의 운세 ".repeat(100), 6);
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length / 2);
+
+        assertThatThrownBy(() -> FortuneValueCodec.decode(truncated))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("손상된");
+    }
+}
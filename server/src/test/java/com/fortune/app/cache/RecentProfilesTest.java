@@ -0,0 +1,96 @@
+package com.fortune.app.cache;
+
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.Gender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentProfilesTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("같은 프로필은 한 번만 기록")
+    void recordsProfileOnce() {
+        RecentProfiles profiles = new RecentProfiles(10, Duration.ofDays(1), nanos::get);
+        AnalyzeFortuneRequest request = request("1990-01-01");
+
+        profiles.record(FortuneCacheKey.of(request), request);
+        profiles.record(FortuneCacheKey.of(request), request);
+
+        assertThat(profiles.next(10)).containsExactly(request);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 프로필을 덮어쓰고, 덮어쓴 프로필은 다시 기록할 수 있음")
+    void overwritesOldestProfile() {
+        RecentProfiles profiles = new RecentProfiles(2, Duration.ofDays(1), nanos::get);
+        AnalyzeFortuneRequest first = request("1990-01-01");
+        AnalyzeFortuneRequest second = request("1990-01-02");
+        AnalyzeFortuneRequest third = request("1990-01-03");
+
+        record(profiles, first, second, third);
+        assertThat(profiles.next(10)).containsExactly(second, third);
+
+        record(profiles, first);
+        assertThat(profiles.next(10)).containsExactlyInAnyOrder(third, first);
+    }
+
+    @Test
+    @DisplayName("이전 호출이 멈춘 위치부터 이어서 반환하고 끝에 닿으면 처음부터 다시 순회")
+    void resumesFromCursor() {
+        RecentProfiles profiles = new RecentProfiles(10, Duration.ofDays(1), nanos::get);
+        AnalyzeFortuneRequest first = request("1990-01-01");
+        AnalyzeFortuneRequest second = request("1990-01-02");
+        AnalyzeFortuneRequest third = request("1990-01-03");
+        record(profiles, first, second, third);
+
+        assertThat(profiles.next(2)).containsExactly(first, second);
+        assertThat(profiles.next(2)).containsExactly(third, first);
+        assertThat(profiles.next(2)).containsExactly(second, third);
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 프로필은 반환하지 않고 다시 조회되면 새로 기록")
+    void skipsExpiredProfiles() {
+        RecentProfiles profiles = new RecentProfiles(10, Duration.ofHours(1), nanos::get);
+        AnalyzeFortuneRequest request = request("1990-01-01");
+        record(profiles, request);
+
+        nanos.addAndGet(Duration.ofHours(2).toNanos());
+        assertThat(profiles.next(10)).isEmpty();
+
+        record(profiles, request);
+        assertThat(profiles.next(10)).containsExactly(request);
+    }
+
+    @Test
+    @DisplayName("기록된 프로필이 없으면 빈 목록")
+    void emptyWhenNothingRecorded() {
+        RecentProfiles profiles = new RecentProfiles(10, Duration.ofDays(1), nanos::get);
+
+        assertThat(profiles.next(10)).isEmpty();
+    }
+
+    private static void record(RecentProfiles profiles, AnalyzeFortuneRequest... requests) {
+        for (AnalyzeFortuneRequest request : List.of(requests)) {
+            profiles.record(FortuneCacheKey.of(request), request);
+        }
+    }
+
+    private static AnalyzeFortuneRequest request(String birthDate) {
+        AnalyzeFortuneRequest request = new AnalyzeFortuneRequest();
+        request.setBirthDate(birthDate);
+        request.setBirthTime("10:30");
+        request.setGender(Gender.MALE);
+        request.setFortuneType(FortuneType.DAILY);
+        return request;
+    }
+}
@@ -0,0 +1,245 @@
+package com.fortune.app.cache;
+
+import com.fortune.app.config.FortuneCacheProperties;
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.Gender;
+import com.fortune.app.prompt.PromptTemplateRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내장 Redis 서버로 L1(Caffeine) + L2(Redis) 캐시 동작 확인
+ * 인스턴스 두 개를 같은 Redis에 연결해 공유 조회와 무효화 전파를 검증
+ */
+class RedisFortuneCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+    private static int testCount;
+
+    private final List<Node> nodes = new ArrayList<>();
+    private String keyPrefix;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisPort = freePort();
+        redisServer = startServer(redisPort);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        keyPrefix = "fortune-test-" + (++testCount);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Node node : nodes) {
+            node.close();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 저장한 결과를 L2에서 읽고 L1에 채움")
+    void readsThroughL2AndBackfillsL1() {
+        Node writer = node(redisPort);
+        Node reader = node(redisPort);
+        AnalyzeFortuneRequest saju = request(FortuneType.SAJU);
+        AnalyzeFortuneRequest daily = request(FortuneType.DAILY);
+
+        writer.sajuCache.put(FortuneCacheKey.of(saju), "사주 결과");
+        writer.dailyCache.put(TODAY, daily, "오늘의 운세 결과");
+
+        assertThat(reader.sajuCache.getIfPresent(FortuneCacheKey.of(saju))).isEqualTo("사주 결과");
+        assertThat(reader.dailyCache.getIfPresent(TODAY, daily)).isEqualTo("오늘의 운세 결과");
+        assertThat(l2Requests(reader.meterRegistry, "hit")).isEqualTo(2);
+
+        // L2를 비워도 L1에 채운 결과로 응답
+        flushRedis();
+        assertThat(reader.sajuCache.getIfPresent(FortuneCacheKey.of(saju))).isEqualTo("사주 결과");
+        assertThat(reader.dailyCache.getIfPresent(TODAY, daily)).isEqualTo("오늘의 운세 결과");
+        assertThat(l2Requests(reader.meterRegistry, "hit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("L1과 L2 모두 없으면 미스")
+    void missesWhenNeitherLevelHasValue() {
+        Node node = node(redisPort);
+
+        assertThat(node.sajuCache.getIfPresent(FortuneCacheKey.of(request(FortuneType.SAJU)))).isNull();
+        assertThat(l2Requests(node.meterRegistry, "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 L2를 비우고 pub/sub으로 다른 인스턴스의 L1도 비움")
+    void propagatesInvalidationToOtherNodes() {
+        Node writer = node(redisPort);
+        Node reader = node(redisPort);
+        FortuneCacheKey key = FortuneCacheKey.of(request(FortuneType.SAJU));
+        AnalyzeFortuneRequest daily = request(FortuneType.DAILY);
+
+        writer.sajuCache.put(key, "사주 결과");
+        writer.dailyCache.put(TODAY, daily, "오늘의 운세 결과");
+        assertThat(reader.sajuCache.getIfPresent(key)).isEqualTo("사주 결과");
+        assertThat(reader.dailyCache.getIfPresent(TODAY, daily)).isEqualTo("오늘의 운세 결과");
+
+        writer.sajuCache.invalidateAll();
+        writer.dailyCache.invalidateAll();
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(reader.sajuCache.getIfPresent(key)).isNull();
+            assertThat(reader.dailyCache.getIfPresent(TODAY, daily)).isNull();
+        });
+        assertThat(writer.sajuCache.getIfPresent(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 장애는 미스로 취급하고 요청은 loader 결과로 처리")
+    void treatsRedisOutageAsMiss() throws IOException {
+        int port = freePort();
+        RedisServer server = startServer(port);
+        Node node = node(port);
+        FortuneCacheKey stored = FortuneCacheKey.of(request(FortuneType.SAJU));
+        node.sharedCache.put(stored, null, "사주 결과");
+        assertThat(node.sharedCache.get(stored, null)).isEqualTo("사주 결과");
+
+        server.stop();
+
+        AnalyzeFortuneRequest other = request(FortuneType.SAJU);
+        other.setBirthDate("1991-01-01");
+        assertThat(node.sharedCache.get(stored, null)).isNull();
+        assertThat(node.sajuCache.get(FortuneCacheKey.of(other), () -> "새 결과")).isEqualTo("새 결과");
+        assertThat(node.dailyCache.get(request(FortuneType.DAILY), date -> "오늘의 운세")).isEqualTo("오늘의 운세");
+        node.sajuCache.invalidateAll();
+        assertThat(l2Requests(node.meterRegistry, "error")).isGreaterThanOrEqualTo(4);
+    }
+
+    private Node node(int port) {
+        Node node = new Node(port, keyPrefix);
+        nodes.add(node);
+        return node;
+    }
+
+    private void flushRedis() {
+        LettuceConnectionFactory connectionFactory = connectionFactory(redisPort);
+        try {
+            StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+            template.delete(template.keys(keyPrefix + ":*"));
+        } finally {
+            connectionFactory.destroy();
+        }
+    }
+
+    private static double l2Requests(MeterRegistry meterRegistry, String result) {
+        return meterRegistry.get("fortune.cache.l2.requests").tag("result", result).counter().count();
+    }
+
+    private static AnalyzeFortuneRequest request(FortuneType fortuneType) {
+        AnalyzeFortuneRequest request = new AnalyzeFortuneRequest();
+        request.setBirthDate("1990-05-15");
+        request.setBirthTime("09:30");
+        request.setGender(Gender.FEMALE);
+        request.setFortuneType(fortuneType);
+        return request;
+    }
+
+    private static RedisServer startServer(int port) throws IOException {
+        RedisServer server = RedisServer.newRedisServer()
+                .port(port)
+                .bind("127.0.0.1")
+                .setting("save \"\"")
+                .setting("appendonly no")
+                .build();
+        server.start();
+        return server;
+    }
+
+    private static LettuceConnectionFactory connectionFactory(int port) {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("127.0.0.1", port),
+                LettuceClientConfiguration.builder().commandTimeout(Duration.ofMillis(500)).build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        return connectionFactory;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * 애플리케이션 인스턴스 하나의 캐시 구성 (무효화 이벤트는 자신의 L1 캐시로만 전달)
+     */
+    private static final class Node {
+
+        private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisFortuneCache sharedCache;
+        private final SajuFortuneCache sajuCache;
+        private final DailyFortuneCache dailyCache;
+
+        private Node(int port, String keyPrefix) {
+            FortuneCacheProperties properties = new FortuneCacheProperties();
+            properties.getRedis().setEnabled(true);
+            properties.getRedis().setKeyPrefix(keyPrefix);
+            properties.getRedis().setInvalidationChannel(keyPrefix + ":invalidate");
+
+            PromptTemplateRegistry promptTemplateRegistry = mock(PromptTemplateRegistry.class);
+            when(promptTemplateRegistry.getVersion(any(), any())).thenReturn("0123456789ab");
+
+            connectionFactory = connectionFactory(port);
+            sharedCache = new RedisFortuneCache(properties, connectionFactory, promptTemplateRegistry,
+                    event -> {
+                        if (event instanceof SharedCacheInvalidatedEvent invalidated) {
+                            onSharedCacheInvalidated(invalidated);
+                        }
+                    }, meterRegistry);
+            sajuCache = new SajuFortuneCache(properties, sharedCache, meterRegistry);
+            dailyCache = new DailyFortuneCache(properties, sharedCache, meterRegistry);
+            sharedCache.subscribe();
+        }
+
+        private void onSharedCacheInvalidated(SharedCacheInvalidatedEvent event) {
+            sajuCache.onSharedCacheInvalidated(event);
+            dailyCache.onSharedCacheInvalidated(event);
+        }
+
+        private void close() throws Exception {
+            sharedCache.unsubscribe();
+            connectionFactory.destroy();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.fortune.app.controller;
+
+import com.fortune.app.dto.FortuneResponse;
+import com.fortune.app.service.FortuneBatchService;
+import com.fortune.app.service.FortuneLookupService;
+import com.fortune.app.service.FortuneRequestExecutor;
+import com.fortune.app.service.FortuneService;
+import com.fortune.app.service.StructuredFortuneService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FortuneControllerTest {
+
+    private static final String ID = "fortune-id";
+
+    private static final FortuneResponse RESPONSE = FortuneResponse.stored(ID, "오늘의 운세", "좋은 하루",
+            LocalDateTime.of(2024, 6, 5, 0, 0));
+
+    private final FortuneLookupService fortuneLookupService = mock(FortuneLookupService.class);
+    private final FortuneRequestExecutor executor = mock(FortuneRequestExecutor.class);
+
+    private final FortuneController controller = new FortuneController(mock(FortuneService.class),
+            mock(FortuneBatchService.class), executor, mock(StructuredFortuneService.class), fortuneLookupService);
+
+    @BeforeEach
+    void setUp() {
+        when(executor.submit(any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 없거나 다르면 본문과 ETag, 유효 기간만큼의 Cache-Control")
+    void returnsBodyWithCacheHeaders() throws Exception {
+        when(fortuneLookupService.find(ID))
+                .thenReturn(new FortuneLookupService.StoredFortune(RESPONSE, "abc", Duration.ofHours(2)));
+
+        ResponseEntity<FortuneResponse> response = getFortune("\"other\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(RESPONSE);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"abc\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=7200, public");
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 ETag와 일치하면(W/ 접두어, 목록 포함) 같은 ETag로 본문 없이 304")
+    void returnsNotModifiedForMatchingEtag() throws Exception {
+        when(fortuneLookupService.find(ID))
+                .thenReturn(new FortuneLookupService.StoredFortune(RESPONSE, "abc", Duration.ofHours(2)));
+
+        for (String ifNoneMatch : new String[]{"\"abc\"", "W/\"abc\"", "\"other\", \"abc\"", "*"}) {
+            ResponseEntity<FortuneResponse> response = getFortune(ifNoneMatch);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getBody()).isNull();
+            assertThat(response.getHeaders().getETag()).isEqualTo("\"abc\"");
+            assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=7200, public");
+        }
+    }
+
+    @Test
+    @DisplayName("유효 기간이 지난 결과는 매번 재검증하도록 no-cache")
+    void requiresRevalidationWhenExpired() throws Exception {
+        when(fortuneLookupService.find(ID))
+                .thenReturn(new FortuneLookupService.StoredFortune(RESPONSE, "abc", Duration.ZERO));
+
+        ResponseEntity<FortuneResponse> response = getFortune(null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, public");
+    }
+
+    private ResponseEntity<FortuneResponse> getFortune(String ifNoneMatch) throws Exception {
+        return controller.getFortune(ID, ifNoneMatch).get(1, TimeUnit.SECONDS);
+    }
+}
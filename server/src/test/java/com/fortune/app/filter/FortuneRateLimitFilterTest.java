@@ -0,0 +1,174 @@
+package com.fortune.app.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortune.app.config.RateLimitProperties;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.support.ClientRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FortuneRateLimitFilterTest {
+
+    private static final String SAJU = "{\"fortuneType\":\"SAJU\",\"birthDate\":\"1990-05-15\"}";
+
+    private static final String ISSUED_KEY = "issued-key";
+
+    private final FortuneRateLimitFilter filter = new FortuneRateLimitFilter(
+            new ClientRateLimiter(Map.of(FortuneType.SAJU, new ClientRateLimiter.Budget(3, 2)), 100, Duration.ofMinutes(1)),
+            (request, response, handler, ex) -> null,
+            new ObjectMapper(), new SimpleMeterRegistry(), properties());
+
+    @Test
+    @DisplayName("한도 안의 요청은 본문을 그대로 다음 필터로 전달")
+    void passesBodyThrough() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(post(SAJU), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest().getInputStream().readAllBytes())
+                .isEqualTo(SAJU.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Content-Length가 상한을 넘으면 본문을 읽지 않고 413")
+    void rejectsDeclaredOversizedBody() throws Exception {
+        MockHttpServletRequest request = post("{\"fortuneType\":\"SAJU\",\"note\":\"" + "a".repeat(300) + "\"}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("길이를 모르는 본문도 상한을 넘으면 413")
+    void rejectsUndeclaredOversizedBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/fortune/analyze") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContent(("{\"note\":\"" + "a".repeat(300) + "\"}").getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    @DisplayName("타입별 건수가 버킷 크기를 넘는 일괄 요청은 재시도해도 허용되지 않으므로 429 대신 400")
+    void rejectsBatchAboveBurstAsBadRequest() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(post("{\"requests\":[" + String.join(",", SAJU, SAJU, SAJU) + "]}"), response,
+                new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getHeader("Retry-After")).isNull();
+    }
+
+    @Test
+    @DisplayName("버킷이 비면 429와 Retry-After")
+    void rejectsOverLimitWithRetryAfter() throws Exception {
+        filter.doFilter(post("{\"requests\":[" + SAJU + "," + SAJU + "]}"), new MockHttpServletResponse(),
+                new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(post(SAJU), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("20");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 API 키는 무시하고 원격 IP로 식별하므로 키를 바꿔도 새 버킷을 받지 못함")
+    void ignoresUnregisteredApiKeys() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            assertThat(send(post(SAJU), "random-" + i).getStatus()).isEqualTo(200);
+        }
+
+        assertThat(send(post(SAJU), "random-2").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("등록된 API 키는 원격 IP와 별도의 버킷을 사용")
+    void keysRegisteredApiKeysSeparately() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            send(post(SAJU), null);
+        }
+
+        assertThat(send(post(SAJU), null).getStatus()).isEqualTo(429);
+        assertThat(send(post(SAJU), ISSUED_KEY).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("다시 전달한 본문의 ReadListener는 등록 즉시 읽기 가능과 읽기 완료를 알림")
+    void notifiesReadListener() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(post(SAJU), new MockHttpServletResponse(), chain);
+        ServletInputStream input = chain.getRequest().getInputStream();
+        List<String> events = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                events.add("data:" + input.isReady());
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("data:true", "done");
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, String apiKey) throws Exception {
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setApiKeys(Set.of(ISSUED_KEY));
+        properties.setMaxBodySize(DataSize.ofBytes(256));
+        return properties;
+    }
+
+    private static MockHttpServletRequest post(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/fortune/analyze");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.setContentType("application/json");
+        return request;
+    }
+}
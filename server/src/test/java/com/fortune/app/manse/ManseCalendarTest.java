@@ -0,0 +1,93 @@
+package com.fortune.app.manse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ManseCalendarTest {
+
+    @Test
+    @DisplayName("기준일의 네 기둥 (2000-01-01 정오: 기묘년 병자월 무오일 무오시)")
+    void calculatesReferencePillars() {
+        SajuPillars pillars = ManseCalendar.pillarsOf(LocalDate.of(2000, 1, 1), "12:00");
+
+        assertThat(hanja(pillars)).containsExactly("己卯", "丙子", "戊午", "戊午");
+    }
+
+    @Test
+    @DisplayName("만세력 시작일 1900-01-01은 입춘 전이므로 기해년, 일주는 갑술")
+    void calculatesFirstSupportedDay() {
+        SajuPillars pillars = ManseCalendar.pillarsOf(LocalDate.of(1900, 1, 1), "08:00");
+
+        assertThat(hanja(pillars)).containsExactly("己亥", "丙子", "甲戌", "戊辰");
+    }
+
+    @Test
+    @DisplayName("2024년 입춘(02-04 17:27) 전에는 계묘년 을축월, 후에는 갑진년 병인월")
+    void switchesYearAtIpchun() {
+        SajuPillars before = ManseCalendar.pillarsOf(LocalDate.of(2024, 2, 4), "16:30");
+        SajuPillars after = ManseCalendar.pillarsOf(LocalDate.of(2024, 2, 4), "18:30");
+
+        assertThat(hanja(before)).containsExactly("癸卯", "乙丑", "戊戌", "庚申");
+        assertThat(hanja(after)).containsExactly("甲辰", "丙寅", "戊戌", "辛酉");
+    }
+
+    @Test
+    @DisplayName("2024년 망종(06-05 12:10) 전에는 기사월, 후에는 경오월이고 년주는 그대로")
+    void switchesMonthAtJeol() {
+        SajuPillars before = ManseCalendar.pillarsOf(LocalDate.of(2024, 6, 5), "10:00");
+        SajuPillars after = ManseCalendar.pillarsOf(LocalDate.of(2024, 6, 5), "14:00");
+
+        assertThat(before.year().getHanja()).isEqualTo("甲辰");
+        assertThat(before.month().getHanja()).isEqualTo("己巳");
+        assertThat(after.year().getHanja()).isEqualTo("甲辰");
+        assertThat(after.month().getHanja()).isEqualTo("庚午");
+    }
+
+    @Test
+    @DisplayName("야자시(23시대)는 같은 날 일주에 다음 날 일간의 자시, 조자시(00시대)는 그날 일간의 자시")
+    void distinguishesLateAndEarlyJaHour() {
+        SajuPillars early = ManseCalendar.pillarsOf(LocalDate.of(2024, 2, 10), "00:30");
+        SajuPillars late = ManseCalendar.pillarsOf(LocalDate.of(2024, 2, 10), "23:30");
+
+        assertThat(early.day().getHanja()).isEqualTo("甲辰");
+        assertThat(early.hour().getHanja()).isEqualTo("甲子");
+        assertThat(late.day().getHanja()).isEqualTo("甲辰");
+        assertThat(late.hour().getHanja()).isEqualTo("丙子");
+        assertThat(late).isNotEqualTo(early);
+    }
+
+    @Test
+    @DisplayName("생시를 모르면 시주는 없고 정오 기준으로 년주/월주를 정함")
+    void omitsHourPillarWhenBirthTimeUnknown() {
+        SajuPillars pillars = ManseCalendar.pillarsOf(LocalDate.of(2024, 2, 4), null);
+
+        assertThat(pillars.hour()).isNull();
+        assertThat(pillars.year().getHanja()).isEqualTo("癸卯");
+        assertThat(pillars.formatPillars()).endsWith("시주 미상");
+    }
+
+    @Test
+    @DisplayName("1900~2100년 범위 밖의 생년월일은 거절")
+    void rejectsDatesOutsideRange() {
+        assertThat(ManseCalendar.pillarsOf(LocalDate.of(2100, 12, 31), "23:59")).isNotNull();
+
+        assertThatThrownBy(() -> ManseCalendar.pillarsOf(LocalDate.of(1899, 12, 31), "12:00"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ManseCalendar.pillarsOf(LocalDate.of(2101, 1, 1), "12:00"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String[] hanja(SajuPillars pillars) {
+        return new String[]{
+                pillars.year().getHanja(),
+                pillars.month().getHanja(),
+                pillars.day().getHanja(),
+                pillars.hour().getHanja()
+        };
+    }
+}
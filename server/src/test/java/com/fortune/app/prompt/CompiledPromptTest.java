@@ -0,0 +1,43 @@
+package com.fortune.app.prompt;
+
+import com.fortune.app.exception.PromptTemplateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledPromptTest {
+
+    @Test
+    @DisplayName("변수를 채워 렌더링")
+    void rendersVariables() {
+        CompiledPrompt prompt = CompiledPrompt.compile("test", "성별: {gender}, 생년월일: {birthDate}.", "test");
+
+        assertThat(prompt.render(Map.of("gender", "여성", "birthDate", "1990-01-01")))
+                .isEqualTo("성별: 여성, 생년월일: 1990-01-01.");
+    }
+
+    @Test
+    @DisplayName("같은 템플릿은 같은 버전")
+    void versionIsTemplateHash() {
+        CompiledPrompt first = CompiledPrompt.compile("a", "{gender}", "a");
+        CompiledPrompt second = CompiledPrompt.compile("b", "{gender}", "b");
+        CompiledPrompt changed = CompiledPrompt.compile("a", "{gender}!", "a");
+
+        assertThat(first.getVersion()).isEqualTo(second.getVersion()).isNotEqualTo(changed.getVersion());
+    }
+
+    @Test
+    @DisplayName("변수 값이 없으면 서버 측 템플릿 오류")
+    void missingVariableIsServerError() {
+        CompiledPrompt prompt = CompiledPrompt.compile("test", "{gender} {unknown}", "test");
+
+        assertThatThrownBy(() -> prompt.render(Map.of("gender", "여성")))
+                .isInstanceOf(PromptTemplateException.class)
+                .isNotInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("test.unknown");
+    }
+}
@@ -0,0 +1,90 @@
+package com.fortune.app.prompt;
+
+import com.fortune.app.config.PromptProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class PromptTemplateRegistryTest {
+
+    private static final Duration DEBOUNCE = Duration.ofMillis(300);
+
+    @TempDir
+    Path directory;
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private PromptTemplateRegistry registry;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("짧은 간격의 연속 변경은 마지막 내용으로 한 번만 다시 로드")
+    void debouncesReloads() throws Exception {
+        Path file = directory.resolve("saju-prompt.txt");
+        Files.writeString(file, "v0 {gender}");
+        start(event -> events.add(event));
+
+        for (int i = 1; i <= 5; i++) {
+            Files.writeString(file, "v" + i + " {gender}");
+            Thread.sleep(20);
+        }
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> !events.isEmpty());
+        Thread.sleep(DEBOUNCE.multipliedBy(3).toMillis());
+        assertThat(events).hasSize(1);
+        assertThat(renderSaju()).isEqualTo("v5 여성");
+    }
+
+    @Test
+    @DisplayName("다시 로드 중 예외가 발생해도 감시는 계속")
+    void keepsWatchingAfterReloadFailure() throws Exception {
+        Path file = directory.resolve("saju-prompt.txt");
+        Files.writeString(file, "v0 {gender}");
+        start(event -> {
+            events.add(event);
+            if (events.size() == 1) {
+                throw new IllegalStateException("listener failure");
+            }
+        });
+
+        Files.writeString(file, "v1 {gender}");
+        await().atMost(Duration.ofSeconds(10)).until(() -> events.size() == 1);
+
+        Files.writeString(file, "v2 {gender}");
+        await().atMost(Duration.ofSeconds(10)).until(() -> events.size() == 2);
+        assertThat(renderSaju()).isEqualTo("v2 여성");
+    }
+
+    private void start(ApplicationEventPublisher publisher) throws IOException {
+        PromptProperties properties = new PromptProperties();
+        properties.setLocation("classpath*:/no-such-prompts/*.txt");
+        properties.setExternalDir(directory.toString());
+        properties.setReloadDebounce(DEBOUNCE);
+        registry = new PromptTemplateRegistry(properties, publisher);
+        registry.initialize();
+    }
+
+    private String renderSaju() {
+        return registry.getAll().stream()
+                .filter(prompt -> prompt.getName().equals("saju-prompt"))
+                .findFirst()
+                .orElseThrow()
+                .render(Map.of("gender", "여성"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.fortune.app.service;
+
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.dto.FortuneBatchResponse;
+import com.fortune.app.dto.FortuneResponse;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.Gender;
+import com.fortune.app.exception.OpenAIException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FortuneBatchServiceTest {
+
+    private static final int MAX_CONCURRENCY = 3;
+
+    private final FortuneService fortuneService = mock(FortuneService.class);
+
+    private final FortuneBatchService batchService = new FortuneBatchService(fortuneService, MAX_CONCURRENCY);
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 프로필은 한 번만 해석하고, 결과는 요청 순서대로 반환")
+    void dedupesAndKeepsRequestOrder() {
+        when(fortuneService.analyzeFortune(any()))
+                .thenAnswer(invocation -> response(invocation.getArgument(0)));
+        List<AnalyzeFortuneRequest> requests = List.of(
+                request("1990-05-15"), request("1985-01-20"), request("1990-05-15"), request("2001-11-30"));
+
+        FortuneBatchResponse response = batchService.analyzeBatch(requests);
+
+        assertThat(response.getResults()).extracting(FortuneBatchResponse.Item::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(response.getResults()).extracting(item -> item.getResult().getResult())
+                .containsExactly("1990-05-15", "1985-01-20", "1990-05-15", "2001-11-30");
+        assertThat(response.getSuccessCount()).isEqualTo(4);
+        verify(fortuneService, times(1)).analyzeFortune(argThat(req -> req.getBirthDate().equals("1990-05-15")));
+        verify(fortuneService, times(3)).analyzeFortune(any());
+    }
+
+    @Test
+    @DisplayName("한 항목의 OpenAI 오류는 해당 항목만 503, 나머지는 성공")
+    void isolatesItemFailure() {
+        when(fortuneService.analyzeFortune(any())).thenAnswer(invocation -> {
+            AnalyzeFortuneRequest request = invocation.getArgument(0);
+            if (request.getBirthDate().equals("1985-01-20")) {
+                throw new OpenAIException("OpenAI API 호출 실패");
+            }
+            return response(request);
+        });
+
+        FortuneBatchResponse response = batchService.analyzeBatch(
+                List.of(request("1990-05-15"), request("1985-01-20"), request("2001-11-30")));
+
+        assertThat(response.getResults()).extracting(FortuneBatchResponse.Item::isSuccess)
+                .containsExactly(true, false, true);
+        FortuneBatchResponse.Item failed = response.getResults().get(1);
+        assertThat(failed.getResult()).isNull();
+        assertThat(failed.getError().getStatus()).isEqualTo(503);
+        assertThat(failed.getError().getPath()).isEqualTo("/fortune/analyze/batch");
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 처리하는 항목 수는 max-concurrency를 넘지 않음")
+    void boundsConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(fortuneService.analyzeFortune(any())).thenAnswer(invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                return response(invocation.getArgument(0));
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+        List<AnalyzeFortuneRequest> requests = new ArrayList<>();
+        for (int day = 1; day <= 12; day++) {
+            requests.add(request("1990-05-%02d".formatted(day)));
+        }
+
+        FortuneBatchResponse response = batchService.analyzeBatch(requests);
+
+        assertThat(response.getSuccessCount()).isEqualTo(12);
+        assertThat(peak.get()).isBetween(1, MAX_CONCURRENCY);
+    }
+
+    private static FortuneResponse response(AnalyzeFortuneRequest request) {
+        return FortuneResponse.of(request.getFortuneType().getValue(), request.getBirthDate());
+    }
+
+    private static AnalyzeFortuneRequest request(String birthDate) {
+        AnalyzeFortuneRequest request = new AnalyzeFortuneRequest();
+        request.setGender(Gender.FEMALE);
+        request.setBirthDate(birthDate);
+        request.setBirthTime("14:30");
+        request.setFortuneType(FortuneType.SAJU);
+        return request;
+    }
+}
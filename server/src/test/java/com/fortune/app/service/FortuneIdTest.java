@@ -0,0 +1,71 @@
+package com.fortune.app.service;
+
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.OutputFormat;
+import com.fortune.app.repository.FortuneResultRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FortuneIdTest {
+
+    private static final String PROMPT_VERSION = "0a1b2c3d4e5f";
+
+    private static final String PROFILE_HASH = "3f2a9c1d7e5b4a60c8d2e1f0a9b8c7d63f2a9c1d7e5b4a60c8d2e1f0a9b8c7d6";
+
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+    @Test
+    @DisplayName("인코딩한 ID를 디코딩하면 같은 구성 요소로 복원")
+    void roundTrips() {
+        FortuneId daily = new FortuneId(FortuneType.DAILY, OutputFormat.JSON, PROMPT_VERSION,
+                LocalDate.of(2024, 6, 5), PROFILE_HASH);
+        FortuneId saju = new FortuneId(FortuneType.SAJU, OutputFormat.TEXT, PROMPT_VERSION,
+                FortuneResultRepository.UNDATED, PROFILE_HASH);
+
+        assertThat(FortuneId.decode(daily.encode())).contains(daily);
+        assertThat(FortuneId.decode(saju.encode())).contains(saju);
+        assertThat(daily.encode()).matches("[A-Za-z0-9_-]+").isNotEqualTo(saju.encode());
+    }
+
+    @Test
+    @DisplayName("길이가 맞지 않거나 base64url이 아닌 ID는 거절")
+    void rejectsMalformedIds() {
+        String id = dailyId().encode();
+
+        assertThat(FortuneId.decode(id.substring(0, id.length() - 1))).isEmpty();
+        assertThat(FortuneId.decode(id + "AAAA")).isEmpty();
+        assertThat(FortuneId.decode("not a fortune id!")).isEmpty();
+        assertThat(FortuneId.decode("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 바이트로 디코딩되더라도 정규 인코딩이 아닌 ID는 거절")
+    void rejectsNonCanonicalIds() {
+        String id = dailyId().encode();
+        char last = id.charAt(id.length() - 1);
+        String trailingBitsSet = id.substring(0, id.length() - 1) + ALPHABET.charAt(ALPHABET.indexOf(last) ^ 1);
+
+        assertThat(Base64.getUrlDecoder().decode(trailingBitsSet)).isEqualTo(Base64.getUrlDecoder().decode(id));
+        assertThat(FortuneId.decode(trailingBitsSet)).isEmpty();
+        assertThat(FortuneId.decode(id + "=")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 운세 타입/결과 형식은 거절")
+    void rejectsUnknownEnumOrdinals() {
+        byte[] bytes = Base64.getUrlDecoder().decode(dailyId().encode());
+        bytes[0] = (byte) FortuneType.values().length;
+
+        assertThat(FortuneId.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes))).isEmpty();
+    }
+
+    private static FortuneId dailyId() {
+        return new FortuneId(FortuneType.DAILY, OutputFormat.TEXT, PROMPT_VERSION, LocalDate.of(2024, 6, 5),
+                PROFILE_HASH);
+    }
+}
@@ -0,0 +1,104 @@
+package com.fortune.app.service;
+
+import com.fortune.app.cache.DailyFortuneCache;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.OutputFormat;
+import com.fortune.app.exception.FortuneNotFoundException;
+import com.fortune.app.repository.FortuneResultRecord;
+import com.fortune.app.repository.FortuneResultRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FortuneLookupServiceTest {
+
+    /** 시스템 시간대와 날짜가 다를 가능성이 큰 시간대 (UTC+14) */
+    private static final ZoneId ZONE = ZoneId.of("Pacific/Kiritimati");
+
+    private static final String PROMPT_VERSION = "0a1b2c3d4e5f";
+
+    private static final String PROFILE_HASH = "3f2a9c1d7e5b4a60c8d2e1f0a9b8c7d63f2a9c1d7e5b4a60c8d2e1f0a9b8c7d6";
+
+    private final FortuneResultStore fortuneResultStore = mock(FortuneResultStore.class);
+    private final DailyFortuneCache dailyFortuneCache = mock(DailyFortuneCache.class);
+
+    private final FortuneLookupService lookupService = new FortuneLookupService(fortuneResultStore,
+            mock(TarotService.class), dailyFortuneCache);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(lookupService, "sajuMaxAge", Duration.ofDays(30));
+        when(dailyFortuneCache.getZone()).thenReturn(ZONE);
+    }
+
+    @Test
+    @DisplayName("오늘의 운세는 설정된 시간대의 자정까지 캐시")
+    void expiresDailyFortuneAtMidnightInZone() {
+        LocalDate today = LocalDate.now(ZONE);
+        String id = store(FortuneType.DAILY, today, "오늘의 운세", LocalDateTime.of(today, LocalTime.NOON));
+
+        Duration maxAge = lookupService.find(id).maxAge();
+
+        ZonedDateTime midnight = today.plusDays(1).atStartOfDay(ZONE);
+        assertThat(maxAge).isPositive().isLessThanOrEqualTo(Duration.ofDays(1));
+        assertThat(Duration.between(ZonedDateTime.now(ZONE).plus(maxAge), midnight).abs())
+                .isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("지난 날짜의 운세는 바로 만료, 사주는 설정된 기간 동안 캐시")
+    void usesZeroForPastDaysAndConfiguredAgeForSaju() {
+        LocalDate yesterday = LocalDate.now(ZONE).minusDays(1);
+        String daily = store(FortuneType.DAILY, yesterday, "어제의 운세", yesterday.atStartOfDay());
+        String saju = store(FortuneType.SAJU, FortuneResultRepository.UNDATED, "사주", LocalDateTime.now());
+
+        assertThat(lookupService.find(daily).maxAge()).isZero();
+        assertThat(lookupService.find(saju).maxAge()).isEqualTo(Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("같은 결과는 같은 ETag, 결과가 다시 저장되면 ETag가 바뀜")
+    void derivesEtagFromStoredContent() {
+        LocalDate today = LocalDate.now(ZONE);
+        String id = store(FortuneType.DAILY, today, "오늘의 운세", today.atStartOfDay());
+        String etag = lookupService.find(id).etag();
+
+        assertThat(lookupService.find(id).etag()).isEqualTo(etag).hasSize(32);
+
+        store(FortuneType.DAILY, today, "오늘의 운세", today.atStartOfDay().plusMinutes(1));
+        assertThat(lookupService.find(id).etag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 ID나 저장소에 없는 결과는 404")
+    void throwsNotFound() {
+        when(fortuneResultStore.findById(any())).thenReturn(Optional.empty());
+        String missing = new FortuneId(FortuneType.SAJU, OutputFormat.TEXT, PROMPT_VERSION,
+                FortuneResultRepository.UNDATED, PROFILE_HASH).encode();
+
+        assertThatThrownBy(() -> lookupService.find("invalid")).isInstanceOf(FortuneNotFoundException.class);
+        assertThatThrownBy(() -> lookupService.find(missing)).isInstanceOf(FortuneNotFoundException.class);
+    }
+
+    private String store(FortuneType fortuneType, LocalDate date, String result, LocalDateTime createdAt) {
+        FortuneId fortuneId = new FortuneId(fortuneType, OutputFormat.TEXT, PROMPT_VERSION, date, PROFILE_HASH);
+        when(fortuneResultStore.findById(fortuneId)).thenReturn(Optional.of(new FortuneResultRecord(PROFILE_HASH,
+                fortuneType, PROMPT_VERSION, date, null, null, null, result, createdAt)));
+        return fortuneId.encode();
+    }
+}
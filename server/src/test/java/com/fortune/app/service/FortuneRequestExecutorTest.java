@@ -0,0 +1,76 @@
+package com.fortune.app.service;
+
+import com.fortune.app.config.FortuneExecutionProperties;
+import com.fortune.app.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FortuneRequestExecutorTest {
+
+    private final FortuneRequestExecutor executor = new FortuneRequestExecutor(properties(1), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("진행 중인 스트림이 허가를 쥐고 있으면 일반 요청과 다른 스트림 모두 과부하로 거절")
+    void streamsShareInFlightCap() {
+        Sinks.Many<String> running = Sinks.many().unicast().onBackpressureBuffer();
+        executor.stream(running::asFlux).subscribe();
+
+        assertThatThrownBy(() -> executor.submit(() -> "sync")).isInstanceOf(ServiceOverloadedException.class);
+        assertThatThrownBy(() -> executor.stream(() -> Flux.just("stream")).blockLast(Duration.ofSeconds(1)))
+                .isInstanceOf(ServiceOverloadedException.class);
+
+        running.tryEmitComplete();
+        assertThat(executor.stream(() -> Flux.just("stream")).blockLast(Duration.ofSeconds(1))).isEqualTo("stream");
+    }
+
+    @Test
+    @DisplayName("스트림이 취소되거나 실패해도 허가를 반납")
+    void releasesPermitOnCancelAndError() throws Exception {
+        executor.stream(Flux::<String>never).subscribe().dispose();
+        executor.stream(() -> Flux.<String>error(new IllegalArgumentException("invalid")))
+                .onErrorResume(e -> Flux.empty())
+                .blockLast(Duration.ofSeconds(1));
+
+        CountDownLatch done = new CountDownLatch(1);
+        CompletableFuture<String> result = executor.submit(() -> {
+            done.countDown();
+            return "sync";
+        });
+
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("sync");
+    }
+
+    @Test
+    @DisplayName("스트림 생성 중 예외도 스트림 오류로 전달")
+    void deliversSupplierFailureAsError() {
+        assertThatThrownBy(() -> executor.stream(() -> {
+            throw new IllegalArgumentException("invalid");
+        }).blockLast(Duration.ofSeconds(1))).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(executor.stream(() -> Flux.just("ok")).blockLast(Duration.ofSeconds(1))).isEqualTo("ok");
+    }
+
+    private static FortuneExecutionProperties properties(int maxInFlight) {
+        FortuneExecutionProperties properties = new FortuneExecutionProperties();
+        properties.setMaxInFlight(maxInFlight);
+        return properties;
+    }
+}
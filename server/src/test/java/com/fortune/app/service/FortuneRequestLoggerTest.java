@@ -0,0 +1,37 @@
+package com.fortune.app.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FortuneRequestLoggerTest {
+
+    private static final String SAJU_PROMPT = """
+            **사주 정보:**
+            - 성별: 여성
+            - 생년월일: 1990-05-15
+            - 생시: 14시 30분
+
+            **만세력 계산 결과 (확정값):**
+            - 사주 원국: 경오년 신사월 경진일 계미시
+            - 오행 분포: 목 0, 화 2, 토 2, 금 3, 수 0
+
+            **분석 요청:**""";
+
+    @Test
+    @DisplayName("기록용 프롬프트에서 생년월일/생시를 가리고 사주 원국/오행 분포 줄은 제외")
+    void redactsBirthProfileFromPrompt() {
+        String logged = FortuneRequestLogger.redactPrompt(SAJU_PROMPT);
+
+        assertThat(logged)
+                .contains("- 생년월일: ****-**-**", "- 생시: **:**", "**만세력 계산 결과 (확정값):**\\n\\n**분석 요청:**")
+                .doesNotContain("1990", "14시", "사주 원국", "경오년", "오행 분포", "화 2");
+    }
+
+    @Test
+    @DisplayName("프롬프트가 없으면 빈 문자열")
+    void redactsNullPrompt() {
+        assertThat(FortuneRequestLogger.redactPrompt(null)).isEmpty();
+    }
+}
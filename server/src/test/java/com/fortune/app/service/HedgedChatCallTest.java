@@ -0,0 +1,137 @@
+package com.fortune.app.service;
+
+import com.fortune.app.exception.OpenAIException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HedgedChatCallTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final HedgedChatCall call = new HedgedChatCall();
+
+    @Test
+    @DisplayName("헤지 요청이 먼저 완료되면 헤지 결과를 사용하고 주 호출은 취소됨")
+    void hedgeWinsAndPrimaryIsCancelled() {
+        Leg primary = start("primary-model");
+        Leg hedge = start("hedge-model");
+
+        primary.emit("늦은 ");
+        hedge.emit("빠른 ");
+        hedge.emit("응답");
+        hedge.complete();
+
+        HedgedChatCall.Leg winner = call.await(TIMEOUT);
+        call.cancel();
+
+        assertThat(winner.model()).isEqualTo("hedge-model");
+        assertThat(winner.isHedge()).isTrue();
+        assertThat(winner.content()).isEqualTo("빠른 응답");
+        assertThat(primary.cancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("주 호출이 먼저 완료되면 주 호출 결과를 사용하고 헤지 요청은 취소됨")
+    void primaryWinsAndHedgeIsCancelled() {
+        Leg primary = start("primary-model");
+        Leg hedge = start("hedge-model");
+
+        primary.emit("주 응답");
+        primary.complete();
+
+        HedgedChatCall.Leg winner = call.await(TIMEOUT);
+        call.cancel();
+
+        assertThat(winner.isHedge()).isFalse();
+        assertThat(winner.content()).isEqualTo("주 응답");
+        assertThat(hedge.cancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 호출이 실패해도 다른 호출이 완료되면 그 결과를 사용")
+    void survivesSingleLegFailure() {
+        Leg primary = start("primary-model");
+        Leg hedge = start("hedge-model");
+
+        primary.fail(new OpenAIException("primary failed"));
+        hedge.emit("헤지 응답");
+        hedge.complete();
+
+        assertThat(call.await(TIMEOUT).content()).isEqualTo("헤지 응답");
+    }
+
+    @Test
+    @DisplayName("모든 호출이 실패하면 주 호출의 예외로 실패")
+    void failsWithPrimaryErrorWhenAllLegsFail() {
+        Leg primary = start("primary-model");
+        Leg hedge = start("hedge-model");
+        OpenAIException primaryError = new OpenAIException("primary failed");
+
+        primary.fail(primaryError);
+        hedge.fail(new OpenAIException("hedge failed"));
+
+        assertThatThrownBy(() -> call.await(TIMEOUT)).isSameAs(primaryError);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 완료된 호출이 없으면 모든 호출을 취소하고 타임아웃으로 실패")
+    void cancelsAllLegsOnTimeout() {
+        Leg primary = start("primary-model");
+        Leg hedge = start("hedge-model");
+
+        assertThatThrownBy(() -> call.await(Duration.ofMillis(50)))
+                .isInstanceOf(OpenAIException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(primary.cancelled()).isTrue();
+        assertThat(hedge.cancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("첫 토큰을 받기 전까지는 대기 시간이 지나면 false")
+    void awaitsFirstToken() {
+        Leg primary = start("primary-model");
+
+        assertThat(call.awaitFirstToken(Duration.ofMillis(20))).isFalse();
+        primary.emit("첫");
+        assertThat(call.awaitFirstToken(Duration.ofMillis(20))).isTrue();
+    }
+
+    private Leg start(String model) {
+        Leg leg = new Leg();
+        call.start(model, leg.sink.asFlux().doOnCancel(() -> leg.cancelled = true));
+        return leg;
+    }
+
+    private static final class Leg {
+
+        private final Sinks.Many<ChatResponse> sink = Sinks.many().unicast().onBackpressureBuffer();
+        private volatile boolean cancelled;
+
+        void emit(String content) {
+            sink.tryEmitNext(new ChatResponse(List.of(new Generation(new AssistantMessage(content)))));
+        }
+
+        void complete() {
+            sink.tryEmitComplete();
+        }
+
+        void fail(Throwable error) {
+            sink.tryEmitError(error);
+        }
+
+        boolean cancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.fortune.app.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortune.app.dto.DailyFortuneResult;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.exception.OpenAIException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StructuredFortuneParserTest {
+
+    static final String DAILY = """
+            {"score": 4, "keywords": ["도전", "균형", "휴식"], "summary": "무난한 하루", "work": "집중",
+             "money": "절약", "relationship": "대화", "health": "수면", "luckyTime": "09:00 - 11:00",
+             "luckyDirection": "동쪽", "luckyColor": "초록", "luckyNumbers": [3, 8], "advice": "서두르지 말 것"}""";
+
+    private final StructuredFortuneParser parser = new StructuredFortuneParser(new ObjectMapper());
+
+    @BeforeEach
+    void setUp() throws Exception {
+        parser.loadSchemas();
+    }
+
+    @Test
+    @DisplayName("필수 항목을 모두 갖춘 응답은 통과하고 DTO로 읽음")
+    void validatesAndParsesCompleteReply() {
+        assertThatCode(() -> parser.validate(FortuneType.DAILY, DAILY)).doesNotThrowAnyException();
+
+        DailyFortuneResult result = parser.parseDaily(DAILY);
+
+        assertThat(result.getScore()).isEqualTo(4);
+        assertThat(result.getKeywords()).containsExactly("도전", "균형", "휴식");
+        assertThat(result.getLuckyNumbers()).containsExactly(3, 8);
+    }
+
+    @Test
+    @DisplayName("필수 항목이 없거나 null이면 재시도 대상인 OpenAIException")
+    void rejectsMissingFields() {
+        String missing = DAILY.replace("\"advice\": \"서두르지 말 것\"", "\"extra\": 1");
+        String nulled = DAILY.replace("\"summary\": \"무난한 하루\"", "\"summary\": null");
+
+        assertThatThrownBy(() -> parser.validate(FortuneType.DAILY, missing))
+                .isInstanceOf(OpenAIException.class).hasMessageContaining("advice");
+        assertThatThrownBy(() -> parser.validate(FortuneType.DAILY, nulled))
+                .isInstanceOf(OpenAIException.class).hasMessageContaining("summary");
+        assertThatThrownBy(() -> parser.validate(FortuneType.SAJU, "{}"))
+                .isInstanceOf(OpenAIException.class).hasMessageContaining("basicAnalysis");
+    }
+
+    @Test
+    @DisplayName("JSON이 아니거나 객체가 아닌 응답은 OpenAIException")
+    void rejectsNonJsonReplies() {
+        assertThatThrownBy(() -> parser.validate(FortuneType.DAILY, "오늘의 운세는 좋습니다."))
+                .isInstanceOf(OpenAIException.class);
+        assertThatThrownBy(() -> parser.validate(FortuneType.DAILY, "[1, 2]"))
+                .isInstanceOf(OpenAIException.class);
+        assertThatThrownBy(() -> parser.parseDaily("{\"score\": "))
+                .isInstanceOf(OpenAIException.class);
+    }
+
+    @Test
+    @DisplayName("스키마는 SAJU/DAILY만 제공")
+    void providesSchemasForSupportedTypes() {
+        assertThat(parser.getSchema(FortuneType.SAJU)).contains("\"basicAnalysis\"");
+        assertThat(parser.getSchema(FortuneType.DAILY)).contains("\"luckyNumbers\"");
+        assertThatThrownBy(() -> parser.getSchema(FortuneType.TAROT)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
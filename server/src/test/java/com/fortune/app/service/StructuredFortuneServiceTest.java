@@ -0,0 +1,109 @@
+package com.fortune.app.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.dto.FortuneResponse;
+import com.fortune.app.dto.StructuredFortuneResponse;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.Gender;
+import com.fortune.app.enumerate.OutputFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StructuredFortuneServiceTest {
+
+    private static final String SAJU = """
+            {"pillars": {"year": "갑자(甲子)", "month": "갑자(甲子)", "day": "갑자(甲子)", "hour": null},
+             "elements": {"wood": 8, "fire": 0, "earth": 0, "metal": 0, "water": 0},
+             "basicAnalysis": "기본", "personality": "성격", "health": "건강", "careerAndWealth": "재물",
+             "relationship": "관계", "yearlyOutlook": "전망", "luckAdvice": "개운"}""";
+
+    private final FortuneService fortuneService = mock(FortuneService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final StructuredFortuneService structuredFortuneService = new StructuredFortuneService(fortuneService,
+            new StructuredFortuneParser(objectMapper), objectMapper);
+
+    @Test
+    @DisplayName("sections를 지정하지 않으면 JSON 형식으로 요청해 전체 섹션 반환")
+    void returnsAllSectionsInJsonFormat() {
+        stubResult(FortuneType.DAILY, StructuredFortuneParserTest.DAILY);
+
+        StructuredFortuneResponse response = structuredFortuneService.analyze(request(FortuneType.DAILY), null);
+
+        verify(fortuneService).analyzeFortune(argThat(req -> req.getOutputFormat() == OutputFormat.JSON));
+        assertThat(response.getId()).isEqualTo("fortune-id");
+        assertThat(fieldNames(response.getResult())).contains("score", "summary", "advice", "luckyNumbers");
+    }
+
+    @Test
+    @DisplayName("sections를 지정하면 해당 섹션만 반환")
+    void projectsRequestedSections() {
+        stubResult(FortuneType.DAILY, StructuredFortuneParserTest.DAILY);
+
+        StructuredFortuneResponse response = structuredFortuneService.analyze(request(FortuneType.DAILY),
+                Set.of("summary", "score"));
+
+        assertThat(fieldNames(response.getResult())).containsExactlyInAnyOrder("summary", "score");
+        assertThat(response.getResult().get("score").asInt()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 섹션은 사용 가능한 섹션 목록과 함께 400(IllegalArgumentException)")
+    void rejectsUnknownSections() {
+        stubResult(FortuneType.DAILY, StructuredFortuneParserTest.DAILY);
+
+        assertThatThrownBy(() -> structuredFortuneService.analyze(request(FortuneType.DAILY), Set.of("summary", "love")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[love]")
+                .hasMessageContaining("luckyColor");
+    }
+
+    @Test
+    @DisplayName("사주 원국과 오행 분포는 모델 응답 대신 만세력 계산값 (2000-01-01 12:00: 기묘/병자/무오/무오)")
+    void takesPillarsFromManseCalendar() {
+        stubResult(FortuneType.SAJU, SAJU);
+        AnalyzeFortuneRequest request = request(FortuneType.SAJU);
+        request.setBirthDate("2000-01-01");
+        request.setBirthTime("12:00");
+
+        JsonNode result = structuredFortuneService.analyze(request, null).getResult();
+
+        assertThat(result.get("pillars").get("year").asText()).isEqualTo("기묘(己卯)");
+        assertThat(result.get("pillars").get("month").asText()).isEqualTo("병자(丙子)");
+        assertThat(result.get("pillars").get("day").asText()).isEqualTo("무오(戊午)");
+        assertThat(result.get("pillars").get("hour").asText()).isEqualTo("무오(戊午)");
+        JsonNode elements = result.get("elements");
+        assertThat(new int[]{elements.get("wood").asInt(), elements.get("fire").asInt(), elements.get("earth").asInt(),
+                elements.get("metal").asInt(), elements.get("water").asInt()}).containsExactly(1, 3, 3, 0, 1);
+        assertThat(result.get("basicAnalysis").asText()).isEqualTo("기본");
+    }
+
+    private void stubResult(FortuneType fortuneType, String json) {
+        FortuneResponse response = FortuneResponse.stored("fortune-id", fortuneType.getValue(), json, null);
+        when(fortuneService.analyzeFortune(argThat(req -> req.getFortuneType() == fortuneType))).thenReturn(response);
+    }
+
+    private static Iterable<String> fieldNames(JsonNode node) {
+        return node::fieldNames;
+    }
+
+    private static AnalyzeFortuneRequest request(FortuneType fortuneType) {
+        AnalyzeFortuneRequest request = new AnalyzeFortuneRequest();
+        request.setGender(Gender.MALE);
+        request.setBirthDate("1990-05-15");
+        request.setBirthTime("14:30");
+        request.setFortuneType(fortuneType);
+        return request;
+    }
+}
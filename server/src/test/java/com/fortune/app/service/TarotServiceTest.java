@@ -0,0 +1,116 @@
+package com.fortune.app.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortune.app.cache.DailyFortuneCache;
+import com.fortune.app.dto.AnalyzeFortuneRequest;
+import com.fortune.app.dto.TarotFortuneResult;
+import com.fortune.app.enumerate.FortuneType;
+import com.fortune.app.enumerate.Gender;
+import com.fortune.app.enumerate.OutputFormat;
+import com.fortune.app.tarot.TarotDeck;
+import com.fortune.app.tarot.TarotReader;
+import com.fortune.app.tarot.TarotReading;
+import com.fortune.app.tarot.TarotSpread;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TarotServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 5);
+
+    private final OpenAIService openAIService = mock(OpenAIService.class);
+    private final DailyFortuneCache dailyFortuneCache = mock(DailyFortuneCache.class);
+    private final FortuneResultStore fortuneResultStore = mock(FortuneResultStore.class);
+    private final StructuredFortuneParser parser = new StructuredFortuneParser(new ObjectMapper());
+
+    private final TarotService tarotService = new TarotService(new TarotReader(new TarotDeck()), openAIService,
+            dailyFortuneCache, fortuneResultStore, parser);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tarotService, "spread", TarotSpread.THREE_CARD);
+        ReflectionTestUtils.setField(tarotService, "synthesisEnabled", true);
+        when(dailyFortuneCache.today()).thenReturn(TODAY);
+    }
+
+    @Test
+    @DisplayName("종합 해석을 끄면 모델 호출 없이 카드 목록만 반환")
+    void rendersCardsOnlyWhenSynthesisDisabled() {
+        ReflectionTestUtils.setField(tarotService, "synthesisEnabled", false);
+        AnalyzeFortuneRequest request = request(OutputFormat.TEXT);
+
+        String result = tarotService.analyze(request);
+
+        assertThat(result).isEqualTo(tarotService.renderCards(tarotService.draw(request)))
+                .doesNotContain(TarotService.SYNTHESIS_HEADER.strip());
+        verifyNoInteractions(openAIService, fortuneResultStore);
+    }
+
+    @Test
+    @DisplayName("종합 해석은 카드 목록 뒤에 붙이고, JSON 요청도 TEXT 형식 요청으로 캐시를 공유")
+    void appendsSynthesisSharedAcrossFormats() throws Exception {
+        when(dailyFortuneCache.get(argThat(req -> req.getOutputFormat() == OutputFormat.TEXT), any()))
+                .thenReturn("오늘은 흐름을 믿어 보세요.");
+
+        String text = tarotService.analyze(request(OutputFormat.TEXT));
+        TarotFortuneResult json = new ObjectMapper().readValue(tarotService.analyze(request(OutputFormat.JSON)),
+                TarotFortuneResult.class);
+
+        assertThat(text).endsWith(TarotService.SYNTHESIS_HEADER + "오늘은 흐름을 믿어 보세요.");
+        assertThat(json.getSynthesis()).isEqualTo("오늘은 흐름을 믿어 보세요.");
+        verify(dailyFortuneCache, times(2))
+                .get(argThat(req -> req.getOutputFormat() == OutputFormat.TEXT), any());
+    }
+
+    @Test
+    @DisplayName("OpenAI 장애 시 텍스트 결과는 카드 목록과 안내 문구")
+    void rendersFallbackText() {
+        AnalyzeFortuneRequest request = request(OutputFormat.TEXT);
+
+        String result = tarotService.renderWithoutSynthesis(request);
+
+        assertThat(result).startsWith(tarotService.renderCards(tarotService.draw(request)))
+                .endsWith(TarotService.SYNTHESIS_HEADER + TarotService.SYNTHESIS_UNAVAILABLE);
+        verifyNoInteractions(openAIService);
+    }
+
+    @Test
+    @DisplayName("OpenAI 장애 시 JSON 결과는 같은 카드에 종합 해석만 null")
+    void rendersFallbackJson() throws Exception {
+        AnalyzeFortuneRequest request = request(OutputFormat.JSON);
+        TarotReading reading = tarotService.draw(request);
+
+        TarotFortuneResult result = new ObjectMapper().readValue(tarotService.renderWithoutSynthesis(request),
+                TarotFortuneResult.class);
+
+        assertThat(result.getSpread()).isEqualTo("THREE_CARD");
+        assertThat(result.getDate()).isEqualTo("2024-06-05");
+        assertThat(result.getCards()).extracting(TarotFortuneResult.Card::getName)
+                .containsExactlyElementsOf(reading.cards().stream().map(drawn -> drawn.card().name()).toList());
+        assertThat(result.getSynthesis()).isNull();
+        verifyNoInteractions(openAIService);
+    }
+
+    private static AnalyzeFortuneRequest request(OutputFormat outputFormat) {
+        AnalyzeFortuneRequest request = new AnalyzeFortuneRequest();
+        request.setGender(Gender.FEMALE);
+        request.setBirthDate("1990-05-15");
+        request.setBirthTime("14:30");
+        request.setFortuneType(FortuneType.TAROT);
+        request.setOutputFormat(outputFormat);
+        return request;
+    }
+}
@@ -0,0 +1,139 @@
+package com.fortune.app.support;
+
+import com.fortune.app.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(60).toNanos();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("지연이 임계치 이내인 응답마다 한도를 1/limit씩 증가 (한도만큼의 응답마다 약 1 증가)")
+    void increasesAdditively() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 10, Duration.ofSeconds(5));
+
+        succeed(limiter, 4);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        succeed(limiter, 1);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도는 maxLimit을 넘지 않음")
+    void capsAtMaxLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 5, Duration.ofSeconds(5));
+
+        succeed(limiter, 100);
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("429 응답이면 한도를 비율만큼 줄이고 minLimit 아래로는 내려가지 않음")
+    void decreasesMultiplicativelyOnDrop() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 5, 50, Duration.ofSeconds(5));
+
+        limiter.acquire();
+        limiter.onDropped();
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        limiter.acquire();
+        limiter.onDropped();
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        limiter.acquire();
+        limiter.onDropped();
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("지연이 임계치를 넘은 응답도 한도를 줄이고, 과부하와 무관한 실패는 한도를 유지")
+    void slowSuccessBacksOffAndIgnoreKeepsLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 1, 50, Duration.ofSeconds(5));
+
+        limiter.acquire();
+        limiter.onSuccess(SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        limiter.acquire();
+        limiter.onIgnore();
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 대기하다가 허가가 반납되면 실행")
+    void waitsForReleasedPermit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1, Duration.ofSeconds(5));
+        limiter.acquire();
+
+        Future<?> waiter = executor.submit(limiter::acquire);
+        await().until(() -> limiter.getWaiting() == 1);
+        limiter.onIgnore();
+
+        waiter.get(5, TimeUnit.SECONDS);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getWaiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 거절")
+    void rejectsAfterMaxWait() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1, Duration.ofMillis(50));
+        limiter.acquire();
+
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOfSatisfying(ServiceOverloadedException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1L));
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+        assertThat(limiter.getWaiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 거절")
+    void rejectsWhenQueueIsFull() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                1, 1, 1, 0.5, Duration.ofSeconds(5), 1, Duration.ofSeconds(5));
+        limiter.acquire();
+        executor.submit(limiter::acquire);
+        await().until(() -> limiter.getWaiting() == 1);
+
+        long startTime = System.nanoTime();
+        assertThatThrownBy(limiter::acquire).isInstanceOf(ServiceOverloadedException.class);
+        assertThat(System.nanoTime() - startTime).isLessThan(Duration.ofSeconds(1).toNanos());
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit, Duration maxWait) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, 0.5,
+                Duration.ofSeconds(30), 10, maxWait);
+    }
+
+    private static void succeed(AdaptiveConcurrencyLimiter limiter, int count) {
+        for (int i = 0; i < count; i++) {
+            limiter.acquire();
+            limiter.onSuccess(FAST);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.fortune.app.support;
+
+import com.fortune.app.enumerate.FortuneType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientRateLimiterTest {
+
+    private static final String CLIENT = "ip:127.0.0.1";
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("빈 버킷은 burst만큼 바로 허용하고, 그다음 요청은 한 간격 뒤에 다시 시도하도록 거절")
+    void allowsBurstThenRejects() {
+        ClientRateLimiter limiter = limiter(Map.of(FortuneType.SAJU, new ClientRateLimiter.Budget(60, 3)));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(CLIENT, cost(FortuneType.SAJU, 1))).isZero();
+        }
+        assertThat(limiter.tryAcquire(CLIENT, cost(FortuneType.SAJU, 1))).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(limiter.getAllowedCount()).isEqualTo(3);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지속 속도만큼 시간이 지나면 다시 허용하고, 오래 쉬어도 burst 이상은 쌓이지 않음")
+    void refillsAtSustainedRate() {
+        ClientRateLimiter limiter = limiter(Map.of(FortuneType.SAJU, new ClientRateLimiter.Budget(60, 2)));
+        limiter.tryAcquire(CLIENT, cost(FortuneType.SAJU, 2));
+        assertThat(limiter.tryAcquire(CLIENT, cost(FortuneType.SAJU, 1))).isPositive();
+
+        advance(Duration.ofSeconds(1));
+        assertThat(limiter.tryAcquire(CLIENT, cost(FortuneType.SAJU, 1))).isZero();
+        assertThat(limiter.tryAcquire(CLIENT, cost(FortuneType.SAJU, 1))).isPositive();
+
+        advance(Duration.ofMinutes(10));
+        assertThat(limiter.tryAcquire(CLIENT, cost(FortuneType.SAJU, 2))).isZero();
+        assertThat(limiter.tryAcquire(CLIENT, cost(FortuneType.SAJU, 1))).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 타입 중 하나라도 한도를 넘으면 먼저 차감한 타입도 되돌려서 전부 거절")
+    void refundsPartialAcquisition() {
+        ClientRateLimiter limiter = limiter(Map.of(
+                FortuneType.SAJU, new ClientRateLimiter.Budget(60, 2),
+                FortuneType.DAILY, new ClientRateLimiter.Budget(60, 1)));
+        limiter.tryAcquire(CLIENT, cost(FortuneType.DAILY, 1));
+
+        Map<FortuneType, Integer> mixed = new EnumMap<>(FortuneType.class);
+        mixed.put(FortuneType.SAJU, 2);
+        mixed.put(FortuneType.DAILY, 1);
+        assertThat(limiter.tryAcquire(CLIENT, mixed)).isPositive();
+
+        assertThat(limiter.tryAcquire(CLIENT, cost(FortuneType.SAJU, 2))).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷 크기가 한 번에 허용할 수 있는 최대 비용이고, 한도가 없는 타입은 제한하지 않음")
+    void exposesMaxCostAndSkipsUnlimitedTypes() {
+        ClientRateLimiter limiter = limiter(Map.of(FortuneType.SAJU, new ClientRateLimiter.Budget(3, 10)));
+
+        assertThat(limiter.maxCost(FortuneType.SAJU)).isEqualTo(10);
+        assertThat(limiter.maxCost(FortuneType.TAROT)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(limiter.tryAcquire(CLIENT, cost(FortuneType.SAJU, 11))).isPositive();
+        assertThat(limiter.tryAcquire(CLIENT, cost(FortuneType.TAROT, 1_000))).isZero();
+    }
+
+    @Test
+    @DisplayName("클라이언트별로 버킷을 따로 관리")
+    void isolatesClients() {
+        ClientRateLimiter limiter = limiter(Map.of(FortuneType.SAJU, new ClientRateLimiter.Budget(60, 1)));
+
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", cost(FortuneType.SAJU, 1))).isZero();
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", cost(FortuneType.SAJU, 1))).isPositive();
+        assertThat(limiter.tryAcquire("ip:10.0.0.2", cost(FortuneType.SAJU, 1))).isZero();
+        assertThat(limiter.topRejected(10)).extracting(ClientRateLimiter.ClientRejections::client)
+                .containsExactly("ip:10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("같은 클라이언트의 동시 요청도 burst를 넘겨 허용하지 않음")
+    void neverOverAdmitsUnderContention() throws Exception {
+        int threads = 16;
+        int attempts = 500;
+        int burst = 100;
+        ClientRateLimiter limiter = limiter(Map.of(FortuneType.DAILY, new ClientRateLimiter.Budget(1, burst)));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < attempts; i++) {
+                        if (limiter.tryAcquire(CLIENT, cost(FortuneType.DAILY, 1)) == 0) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int allowed = 0;
+            for (Future<Integer> result : results) {
+                allowed += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(allowed).isEqualTo(burst);
+            assertThat(limiter.getAllowedCount()).isEqualTo(burst);
+            assertThat(limiter.getRejectedCount()).isEqualTo((long) threads * attempts - burst);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ClientRateLimiter limiter(Map<FortuneType, ClientRateLimiter.Budget> budgets) {
+        return new ClientRateLimiter(budgets, 1_000, Duration.ofHours(1), nanos::get);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static Map<FortuneType, Integer> cost(FortuneType fortuneType, int count) {
+        return Map.of(fortuneType, count);
+    }
+}
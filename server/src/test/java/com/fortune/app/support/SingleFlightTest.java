@@ -0,0 +1,140 @@
+package com.fortune.app.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 호출은 작업을 한 번만 실행하고 모두 같은 결과를 받음")
+    void coalescesConcurrentCalls() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        List<Future<String>> results = submitAll("key", () -> {
+            executions.incrementAndGet();
+            awaitRelease(release);
+            return "result";
+        });
+        await().until(() -> singleFlight.getCollapsedCount() == CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 기다리던 호출 모두 같은 예외를 받음")
+    void propagatesFailureToAllWaiters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        List<Future<String>> results = submitAll("key", () -> {
+            awaitRelease(release);
+            throw failure;
+        });
+        await().until(() -> singleFlight.getCollapsedCount() == CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        }
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 키를 제거하여 다음 호출은 새로 실행")
+    void removesKeyAfterCompletion() {
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("key", () -> "first-" + executions.incrementAndGet());
+        String second = singleFlight.execute("key", () -> "second-" + executions.incrementAndGet());
+
+        assertThat(second).isEqualTo("second-2");
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        assertThat(singleFlight.getCollapsedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 경우에도 키를 제거하여 다음 호출은 새로 실행")
+    void removesKeyAfterFailure() {
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        assertThat(singleFlight.execute("key", () -> "retry")).isEqualTo("retry");
+    }
+
+    @Test
+    @DisplayName("다른 키의 호출은 합치지 않음")
+    void doesNotCoalesceDifferentKeys() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        Future<String> first = executor.submit(() -> singleFlight.execute("a", () -> {
+            executions.incrementAndGet();
+            awaitRelease(release);
+            return "a";
+        }));
+        Future<String> second = executor.submit(() -> singleFlight.execute("b", () -> {
+            executions.incrementAndGet();
+            awaitRelease(release);
+            return "b";
+        }));
+        await().until(() -> singleFlight.getInFlightCount() == 2);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+        assertThat(executions).hasValue(2);
+        assertThat(singleFlight.getCollapsedCount()).isZero();
+    }
+
+    private List<Future<String>> submitAll(String key, Supplier<String> supplier) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(key, supplier)));
+        }
+        return results;
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.fortune.app.tarot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TarotDeckTest {
+
+    private final TarotDeck deck = new TarotDeck();
+
+    @Test
+    @DisplayName("78장의 카드가 0~77 고유 ID로 빠짐없이 구성")
+    void containsAllCardsWithUniqueIds() {
+        List<TarotCard> cards = deck.getAll();
+
+        assertThat(cards).hasSize(TarotDeck.SIZE);
+        assertThat(cards).extracting(TarotCard::id).doesNotHaveDuplicates()
+                .allSatisfy(id -> assertThat(id).isBetween(0, TarotDeck.SIZE - 1));
+        assertThat(cards).extracting(TarotCard::name).doesNotHaveDuplicates();
+        for (TarotCard card : cards) {
+            assertThat(deck.get(card.id())).isSameAs(card);
+        }
+    }
+
+    @Test
+    @DisplayName("대 아르카나 22장, 소 아르카나는 네 슈트에 14장씩")
+    void splitsMajorAndMinorArcana() {
+        List<TarotCard> cards = deck.getAll();
+
+        assertThat(cards).filteredOn(TarotCard::isMajor).hasSize(TarotDeck.MAJOR_ARCANA)
+                .allSatisfy(card -> assertThat(card.id()).isLessThan(TarotDeck.MAJOR_ARCANA));
+        for (TarotSuit suit : TarotSuit.values()) {
+            assertThat(cards).filteredOn(card -> card.suit() == suit)
+                    .extracting(TarotCard::rank)
+                    .containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14);
+        }
+    }
+
+    @Test
+    @DisplayName("모든 카드는 정방향과 역방향 의미를 따로 가짐")
+    void hasUprightAndReversedMeanings() {
+        assertThat(deck.getAll()).allSatisfy(card -> {
+            assertThat(card.upright()).isNotEmpty().doesNotContain("");
+            assertThat(card.reversed()).isNotEmpty().doesNotContain("");
+            assertThat(card.reversed()).isNotEqualTo(card.upright());
+            assertThat(card.keywords(false)).isEqualTo(card.upright());
+            assertThat(card.keywords(true)).isEqualTo(card.reversed());
+        });
+    }
+
+    @Test
+    @DisplayName("한글 이름과 영문 이름(대소문자 무시)으로 조회")
+    void findsByName() {
+        TarotCard fool = deck.get(0);
+
+        assertThat(deck.find("바보")).isSameAs(fool);
+        assertThat(deck.find("The Fool")).isSameAs(fool);
+        assertThat(deck.find("the fool")).isSameAs(fool);
+        assertThat(deck.find("없는 카드")).isNull();
+    }
+}
@@ -0,0 +1,57 @@
+package com.fortune.app.tarot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TarotReaderTest {
+
+    private static final String PROFILE = "3f2a9c1d7e5b4a60c8d2e1f0a9b8c7d6";
+
+    private static final LocalDate DATE = LocalDate.of(2024, 6, 5);
+
+    private final TarotReader reader = new TarotReader(new TarotDeck());
+
+    @Test
+    @DisplayName("같은 프로필, 날짜, 스프레드는 항상 같은 카드와 방향")
+    void drawsDeterministically() {
+        TarotReading first = reader.draw(PROFILE, DATE, TarotSpread.THREE_CARD);
+        TarotReading second = reader.draw(PROFILE, DATE, TarotSpread.THREE_CARD);
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 다른 카드를 뽑음")
+    void drawsDifferentCardsOnAnotherDay() {
+        TarotReading today = reader.draw(PROFILE, DATE, TarotSpread.FIVE_CARD);
+        TarotReading tomorrow = reader.draw(PROFILE, DATE.plusDays(1), TarotSpread.FIVE_CARD);
+
+        assertThat(tomorrow.date()).isEqualTo(DATE.plusDays(1));
+        assertThat(tomorrow.cards()).isNotEqualTo(today.cards());
+    }
+
+    @Test
+    @DisplayName("한 스프레드 안에서는 같은 카드가 두 번 나오지 않음")
+    void neverRepeatsCardWithinSpread() {
+        for (int day = 0; day < 365; day++) {
+            TarotReading reading = reader.draw(PROFILE, DATE.plusDays(day), TarotSpread.FIVE_CARD);
+
+            assertThat(reading.cards()).extracting(drawn -> drawn.card().id()).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    @DisplayName("스프레드의 자리 순서대로 카드를 배치")
+    void placesCardsInSpreadPositions() {
+        for (TarotSpread spread : TarotSpread.values()) {
+            TarotReading reading = reader.draw(PROFILE, DATE, spread);
+
+            assertThat(reading.spread()).isEqualTo(spread);
+            assertThat(reading.cards()).extracting(DrawnCard::position).containsExactlyElementsOf(spread.getPositions());
+        }
+    }
+}